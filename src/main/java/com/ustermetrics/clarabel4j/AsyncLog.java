@@ -0,0 +1,115 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A bounded buffer of log tasks, which are run in order by a single background thread, such that threads which log
+ * are never blocked by slow log destinations.
+ * <p>
+ * If the buffer is full, then tasks are dropped and counted instead of blocking the logging thread.
+ */
+final class AsyncLog {
+
+    private static final int CAPACITY = 8192;
+    // Stops the background thread once all tasks appended before are run
+    private static final Runnable STOP = () -> {
+    };
+
+    /**
+     * The buffer shared by all models.
+     */
+    static final AsyncLog INSTANCE = new AsyncLog(CAPACITY);
+
+    private final BlockingQueue<Runnable> tasks;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+
+    AsyncLog(int capacity) {
+        checkArgument(capacity > 0, "capacity must be positive");
+
+        tasks = new ArrayBlockingQueue<>(capacity);
+        thread = Thread.ofPlatform().daemon().name("clarabel4j-async-log").start(this::run);
+    }
+
+    /**
+     * Appends the task to the buffer without blocking.
+     *
+     * @param task log task
+     * @return {@code true} if the task was appended, {@code false} if the buffer was full and the task was dropped
+     */
+    boolean offer(Runnable task) {
+        if (tasks.offer(task)) {
+            return true;
+        }
+
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return number of tasks dropped because the buffer was full
+     */
+    long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return {@code true} if no task is waiting to be run
+     */
+    boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+
+    /**
+     * Waits until all tasks appended before are run.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void flush() throws InterruptedException {
+        val latch = new CountDownLatch(1);
+        tasks.put(latch::countDown);
+        latch.await();
+    }
+
+    /**
+     * Waits until all tasks appended before are run and stops the background thread. Tasks appended afterward are not
+     * run.
+     * <p>
+     * The background thread is stopped by a final task instead of an interrupt, which would close interruptible
+     * channels, e.g. of a log file, and lose lines.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void close() throws InterruptedException {
+        tasks.put(STOP);
+        thread.join();
+    }
+
+    private void run() {
+        while (true) {
+            final Runnable task;
+            try {
+                task = tasks.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == STOP) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // A failing log destination must not stop the delivery of other tasks
+            }
+        }
+    }
+
+}
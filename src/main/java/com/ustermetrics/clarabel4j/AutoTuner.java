@@ -0,0 +1,243 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.ustermetrics.clarabel4j.DirectSolveMethod.FAER;
+import static com.ustermetrics.clarabel4j.DirectSolveMethod.QDLDL;
+import static com.ustermetrics.clarabel4j.Status.SOLVED;
+import static java.lang.Math.log;
+import static java.lang.Math.log1p;
+
+/**
+ * An auto-tuner, which learns the fastest direct solve method and number of threads per problem structure.
+ * <p>
+ * {@link #calibrate} optimizes a representative problem with each candidate and records the fastest candidate for
+ * the structural features of the problem, i.e. the number of variables, the number of constraints, and the number of
+ * non-zero entries of P and A. A {@link Model} with an auto-tuner applies the candidate recorded for the nearest
+ * features in logarithmic scale at setup, unless its {@link Parameters} set the direct solve method or the maximum
+ * number of threads explicitly. If the nearest features differ by more than an order of magnitude, i.e. their
+ * Euclidean distance in logarithmic scale exceeds {@code log(10)}, then no candidate is applied, since the fastest
+ * candidate of much smaller or larger problems is no indication. The candidates and the recorded candidates can be
+ * persisted with {@link #save(Path)} and {@link #load(Path)}.
+ * <p>
+ * All candidates must be supported by the native library, e.g. {@link DirectSolveMethod#PARDISO_MKL} requires a
+ * native library built with Pardiso support. An auto-tuner may be shared by many models and threads.
+ */
+public final class AutoTuner {
+
+    private static final int RUNS = 3;
+    private static final double MAX_DISTANCE = log(10.) * log(10.);
+    private static final String CANDIDATE = "candidate";
+
+    @Getter
+    private final List<Candidate> candidates;
+    private final ConcurrentMap<Features, Candidate> fastest = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new auto-tuner with the candidates QDLDL, FAER with a single thread, and FAER with one thread per
+     * available processor.
+     */
+    public AutoTuner() {
+        this(List.of(new Candidate(QDLDL, 1), new Candidate(FAER, 1),
+                new Candidate(FAER, Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Creates a new auto-tuner.
+     *
+     * @param candidates pairs of direct solve method and number of threads to calibrate
+     */
+    public AutoTuner(@NonNull List<@NonNull Candidate> candidates) {
+        checkArgument(!candidates.isEmpty(), "candidates must not be empty");
+
+        this.candidates = List.copyOf(candidates);
+    }
+
+    /**
+     * Optimizes the given representative problem with each candidate and records the candidate with the shortest
+     * solve time for the structural features of the problem.
+     * <p>
+     * Each candidate is optimized a few times, and its shortest solve time is compared. Candidates which do not solve
+     * the problem are not considered.
+     *
+     * @param parameters (optional) parameter object for the solver settings, which must not set the direct solve
+     *                   method or the maximum number of threads
+     * @param p          (optional) cost function matrix P
+     * @param q          (optional) cost function weights q
+     * @param a          (optional) cone constraints matrix A
+     * @param b          (optional) right-hand-side of the cone constraints
+     * @param cones      (optional) types and dimensions of the convex cones
+     * @return the fastest candidate
+     * @see Model#setup(Matrix, double[], Matrix, double[], List)
+     */
+    public Candidate calibrate(Parameters parameters, Matrix p, double[] q, Matrix a, double[] b,
+                               List<@NonNull Cone> cones) {
+        checkArgument(parameters == null || parameters.directSolveMethod() == null && parameters.maxThreads() == null,
+                "parameters must not set the direct solve method or the maximum number of threads");
+
+        Candidate fastestCandidate = null;
+        var shortestTime = Double.POSITIVE_INFINITY;
+        for (val candidate : candidates) {
+            val time = solveTime(candidate, parameters, p, q, a, b, cones);
+            if (time < shortestTime) {
+                fastestCandidate = candidate;
+                shortestTime = time;
+            }
+        }
+        checkArgument(fastestCandidate != null, "problem must be solved by a candidate");
+
+        fastest.put(Features.of(p, a), fastestCandidate);
+
+        return fastestCandidate;
+    }
+
+    private static double solveTime(Candidate candidate, Parameters parameters, Matrix p, double[] q, Matrix a,
+                                    double[] b, List<Cone> cones) {
+        var shortestTime = Double.POSITIVE_INFINITY;
+        for (var run = 0; run < RUNS; run++) {
+            try (val model = new Model()) {
+                if (parameters != null) {
+                    model.setParameters(parameters);
+                }
+                model.setCandidate(candidate);
+                model.setup(p, q, a, b, cones);
+                if (model.optimize() != SOLVED) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                shortestTime = Math.min(shortestTime, model.solveTime());
+            }
+        }
+
+        return shortestTime;
+    }
+
+    /**
+     * @return the candidate recorded for the features nearest to the given features, or {@code null} if there is none
+     * within an order of magnitude
+     */
+    Candidate candidate(Features features) {
+        return fastest.entrySet().stream()
+                .filter(e -> e.getKey().distance(features) <= MAX_DISTANCE)
+                .min(Comparator.comparingDouble(e -> e.getKey().distance(features)))
+                .map(Map.Entry::getValue)
+                .orElse(null);
+    }
+
+    /**
+     * Saves the candidates and the recorded candidates to the given file, one line per candidate followed by one line
+     * with the features and the candidate per problem structure.
+     *
+     * @param path file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(@NonNull Path path) throws IOException {
+        val candidateLines = candidates.stream()
+                .map(c -> String.join(" ", CANDIDATE, c.method().name(), String.valueOf(c.threads())));
+        val recordLines = fastest.entrySet().stream()
+                .map(e -> String.join(" ", String.valueOf(e.getKey().n()), String.valueOf(e.getKey().m()),
+                        String.valueOf(e.getKey().nnz()), e.getValue().method().name(),
+                        String.valueOf(e.getValue().threads())));
+        Files.write(path, Stream.concat(candidateLines, recordLines).toList());
+    }
+
+    /**
+     * Loads the candidates and the recorded candidates saved by {@link #save(Path)} into a new auto-tuner.
+     * <p>
+     * If the file lists no candidates, then the candidates are the recorded candidates, or the default candidates if
+     * there are none.
+     *
+     * @param path file to read
+     * @return the auto-tuner
+     * @throws IOException if the file cannot be read
+     */
+    public static AutoTuner load(@NonNull Path path) throws IOException {
+        val candidates = new ArrayList<Candidate>();
+        val records = new ArrayList<Map.Entry<Features, Candidate>>();
+        for (val line : Files.readAllLines(path)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            val fields = line.strip().split("\\s+");
+            if (fields[0].equals(CANDIDATE)) {
+                checkArgument(fields.length == 3, "candidate line must contain three fields: %s", line);
+                candidates.add(new Candidate(DirectSolveMethod.valueOf(fields[1]), Integer.parseInt(fields[2])));
+            } else {
+                checkArgument(fields.length == 5, "line must contain five fields: %s", line);
+                val features = new Features(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                        Long.parseLong(fields[2]));
+                val candidate = new Candidate(DirectSolveMethod.valueOf(fields[3]), Integer.parseInt(fields[4]));
+                records.add(Map.entry(features, candidate));
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            records.stream()
+                    .map(Map.Entry::getValue)
+                    .collect(LinkedHashSet<Candidate>::new, LinkedHashSet::add, LinkedHashSet::addAll)
+                    .forEach(candidates::add);
+        }
+        val tuner = candidates.isEmpty() ? new AutoTuner() : new AutoTuner(candidates);
+        for (val entry : records) {
+            checkArgument(tuner.candidates.contains(entry.getValue()), "candidate must be one of the candidates: %s",
+                    entry.getValue());
+            tuner.fastest.put(entry.getKey(), entry.getValue());
+        }
+
+        return tuner;
+    }
+
+    /**
+     * A direct solve method with a number of threads.
+     *
+     * @param method  direct solve method
+     * @param threads maximum number of threads
+     */
+    public record Candidate(@NonNull DirectSolveMethod method, int threads) {
+
+        public Candidate {
+            checkArgument(threads > 0, "threads must be positive");
+        }
+
+    }
+
+    /**
+     * The structural features of a problem.
+     *
+     * @param n   number of variables
+     * @param m   number of constraints
+     * @param nnz number of non-zero entries of P and A
+     */
+    record Features(int n, int m, long nnz) {
+
+        static Features of(Matrix p, Matrix a) {
+            val n = p != null ? p.n() : a.n();
+            val m = a != null ? a.m() : 0;
+            val nnz = (p != null ? p.rowVal().length : 0L) + (a != null ? a.rowVal().length : 0L);
+            return new Features(n, m, nnz);
+        }
+
+        double distance(Features other) {
+            val dn = log1p(n) - log1p(other.n);
+            val dm = log1p(m) - log1p(other.m);
+            val dnnz = log1p(nnz) - log1p(other.nnz);
+            return dn * dn + dm * dm + dnnz * dnnz;
+        }
+
+    }
+
+}
@@ -1,15 +1,69 @@
 package com.ustermetrics.clarabel4j;
 
+import lombok.val;
+
+import java.util.Arrays;
+
+import static java.lang.Math.toIntExact;
+
 /**
  * Abstract sealed class for cone types
  *
  * @see <a href="https://clarabel.org">Clarabel</a>
  */
 public abstract sealed class Cone
-        permits ZeroCone, NonnegativeCone, SecondOrderCone, ExponentialCone, PowerCone, GenPowerCone {
+        permits ZeroCone, NonnegativeCone, SecondOrderCone, ExponentialCone, PowerCone, GenPowerCone, ConeBlock {
 
     abstract int getTag();
 
     public abstract long getDimension();
 
+    /**
+     * @return number of entries of this cone in the native cone array
+     */
+    int getCount() {
+        return 1;
+    }
+
+    /**
+     * @param v      vector
+     * @param offset start of the slice of {@code v} with the dimension of this cone
+     * @return violation of the membership of the slice in this cone, which is zero if the slice is a member
+     */
+    abstract double violation(double[] v, int offset);
+
+    /**
+     * @param v      vector
+     * @param offset start of the slice of {@code v} with the dimension of this cone
+     * @return violation of the membership of the slice in the dual cone, which is zero if the slice is a member
+     */
+    abstract double dualViolation(double[] v, int offset);
+
+    /**
+     * Projects the slice of {@code v} with the dimension of this cone onto this cone in place.
+     *
+     * @param v      vector
+     * @param offset start of the slice of {@code v} with the dimension of this cone
+     */
+    abstract void project(double[] v, int offset);
+
+    /**
+     * @param v      vector
+     * @param offset start of the slice of {@code v} with the dimension of this cone
+     * @return squared Euclidean distance of the slice to this cone
+     */
+    double squaredDistance(double[] v, int offset) {
+        val dimension = toIntExact(getDimension());
+        val projection = Arrays.copyOfRange(v, offset, offset + dimension);
+        project(projection, 0);
+
+        var squaredDistance = 0.;
+        for (var i = 0; i < dimension; i++) {
+            val d = v[offset + i] - projection[i];
+            squaredDistance += d * d;
+        }
+
+        return squaredDistance;
+    }
+
 }
@@ -0,0 +1,77 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static java.lang.Math.toIntExact;
+
+/**
+ * A block of {@code count} consecutive copies of the same cone, e.g. {@code new ConeBlock(new SecondOrderCone(3),
+ * 200_000)}, which replaces a list with one {@link Cone} object per cone for problems with many small cones.
+ * <p>
+ * The cone is written once into the native cone array and replicated in bulk.
+ *
+ * @see <a href="https://clarabel.org">Clarabel</a>
+ */
+@Getter
+public final class ConeBlock extends Cone {
+
+    private final Cone cone;
+    private final int count;
+
+    /**
+     * @param cone  cone which is repeated. Must not be a cone block itself.
+     * @param count number of copies
+     */
+    public ConeBlock(@NonNull Cone cone, int count) {
+        checkArgument(!(cone instanceof ConeBlock), "cone must not be a cone block");
+        checkArgument(count > 0, "count must be positive");
+
+        this.cone = cone;
+        this.count = count;
+    }
+
+    @Override
+    int getTag() {
+        return cone.getTag();
+    }
+
+    @Override
+    public long getDimension() {
+        return cone.getDimension() * count;
+    }
+
+    @Override
+    double violation(double[] v, int offset) {
+        val dimension = toIntExact(cone.getDimension());
+        var violation = 0.;
+        for (var i = 0; i < count; i++) {
+            violation = max(violation, cone.violation(v, offset + i * dimension));
+        }
+
+        return violation;
+    }
+
+    @Override
+    double dualViolation(double[] v, int offset) {
+        val dimension = toIntExact(cone.getDimension());
+        var violation = 0.;
+        for (var i = 0; i < count; i++) {
+            violation = max(violation, cone.dualViolation(v, offset + i * dimension));
+        }
+
+        return violation;
+    }
+
+    @Override
+    void project(double[] v, int offset) {
+        val dimension = toIntExact(cone.getDimension());
+        IntStream.range(0, count).parallel().forEach(i -> cone.project(v, offset + i * dimension));
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.ustermetrics.clarabel4j;
+
+import com.google.common.collect.MapMaker;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * An immutable list of cones, which is shared by many models with the same cone layout but different data.
+ * <p>
+ * When the cones of a layout, i.e. {@link #getCones()}, are set up in a {@link Model}, the native cone array,
+ * including the alpha arrays of generalized power cones, is built once per layout and referenced by all models
+ * instead of being rebuilt on each setup.
+ * <p>
+ * The cones are recognized by the identity of the list as long as the layout is reachable. A model set up with the
+ * cones keeps the layout reachable until it is cleaned up or closed. If cone merging or row grouping is enabled in a
+ * {@link Model}, then the native cone array is built from the transformed cones on each setup.
+ */
+public final class ConeLayout {
+
+    private static final ConcurrentMap<List<Cone>, ConeLayout> LAYOUTS = new MapMaker().weakKeys().weakValues()
+            .makeMap();
+
+    @Getter
+    private final List<Cone> cones;
+    private MemorySegment conesSeg;
+    private volatile Long fingerprint;
+
+    /**
+     * Creates a new cone layout from an immutable copy of the given cones.
+     *
+     * @param cones types and dimensions of the convex cones
+     */
+    public ConeLayout(@NonNull List<@NonNull Cone> cones) {
+        checkArgument(!cones.isEmpty(), "cones must not be empty");
+
+        this.cones = List.copyOf(cones);
+        LAYOUTS.put(this.cones, this);
+    }
+
+    /**
+     * @return total dimension of all cones
+     */
+    public long getDimension() {
+        return cones.stream().mapToLong(Cone::getDimension).sum();
+    }
+
+    /**
+     * @return the cone layout whose cones are the given list, or {@code null} if there is none
+     */
+    static ConeLayout lookup(List<Cone> cones) {
+        val layout = LAYOUTS.get(cones);
+        return layout != null && layout.cones == cones ? layout : null;
+    }
+
+    /**
+     * @return fingerprint of the cones for the {@link RetryPolicy}, which is computed once per layout
+     */
+    long fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = RetryPolicy.fingerprint(cones);
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * @return the native cone array, which is shared by all models and must not be modified
+     */
+    synchronized MemorySegment conesSegment() {
+        if (conesSeg == null) {
+            conesSeg = Model.createConesSegment(cones, Arena.ofAuto());
+        }
+
+        return conesSeg;
+    }
+
+}
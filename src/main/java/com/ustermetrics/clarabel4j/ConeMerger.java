@@ -0,0 +1,68 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Canonicalization of a list of cones, which merges runs of adjacent Zero cones and runs of adjacent Nonnegative
+ * cones into a single cone each.
+ * <p>
+ * The row order is not changed, hence the slack and dual variables of the merged cones are the same as the ones of
+ * the original cones.
+ */
+final class ConeMerger {
+
+    private ConeMerger() {
+    }
+
+    /**
+     * @param cones types and dimensions of the convex cones
+     * @return the cones, where adjacent Zero cones and adjacent Nonnegative cones (including blocks thereof) are
+     * merged
+     */
+    static List<Cone> merge(List<Cone> cones) {
+        val merged = new ArrayList<Cone>(cones.size());
+
+        var zeroDimension = 0L;
+        var nonnegativeDimension = 0L;
+        for (val cone : cones) {
+            val base = cone instanceof ConeBlock coneBlock ? coneBlock.getCone() : cone;
+
+            if (base instanceof ZeroCone) {
+                if (nonnegativeDimension > 0) {
+                    merged.add(new NonnegativeCone(nonnegativeDimension));
+                    nonnegativeDimension = 0;
+                }
+                zeroDimension += cone.getDimension();
+            } else if (base instanceof NonnegativeCone) {
+                if (zeroDimension > 0) {
+                    merged.add(new ZeroCone(zeroDimension));
+                    zeroDimension = 0;
+                }
+                nonnegativeDimension += cone.getDimension();
+            } else {
+                if (zeroDimension > 0) {
+                    merged.add(new ZeroCone(zeroDimension));
+                    zeroDimension = 0;
+                }
+                if (nonnegativeDimension > 0) {
+                    merged.add(new NonnegativeCone(nonnegativeDimension));
+                    nonnegativeDimension = 0;
+                }
+                merged.add(cone);
+            }
+        }
+
+        if (zeroDimension > 0) {
+            merged.add(new ZeroCone(zeroDimension));
+        }
+        if (nonnegativeDimension > 0) {
+            merged.add(new NonnegativeCone(nonnegativeDimension));
+        }
+
+        return merged;
+    }
+
+}
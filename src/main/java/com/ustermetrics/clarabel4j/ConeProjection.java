@@ -0,0 +1,93 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.NonNull;
+import lombok.val;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toIntExact;
+
+/**
+ * Euclidean projection onto, and distance to, the convex cones of a {@link Model}, e.g. for presolve, verification,
+ * and heuristic rounding.
+ * <p>
+ * A vector has the cone layout of a {@link Model}, i.e. the slices of the vector belong to the cones in the order of
+ * the list of cones. The cones, and the copies of a {@link ConeBlock}, are processed in parallel.
+ */
+public final class ConeProjection {
+
+    private ConeProjection() {
+    }
+
+    /**
+     * Projects {@code v} onto the convex set {@code K} in place.
+     *
+     * @param cones types and dimensions of the convex cones of {@code K}
+     * @param v     vector with the dimension of {@code K}, which is overwritten with the projection
+     */
+    public static void project(@NonNull List<@NonNull Cone> cones, double @NonNull [] v) {
+        val offsets = offsets(cones, v);
+        IntStream.range(0, cones.size()).parallel().forEach(i -> cones.get(i).project(v, offsets[i]));
+    }
+
+    /**
+     * @param cones types and dimensions of the convex cones of {@code K}
+     * @param v     vector with the dimension of {@code K}
+     * @return Euclidean distance of {@code v} to the convex set {@code K}
+     */
+    public static double distance(@NonNull List<@NonNull Cone> cones, double @NonNull [] v) {
+        val offsets = offsets(cones, v);
+        val squaredDistances = new double[cones.size()];
+        IntStream.range(0, cones.size()).parallel()
+                .forEach(i -> squaredDistances[i] = cones.get(i).squaredDistance(v, offsets[i]));
+
+        var squaredDistance = 0.;
+        for (val d : squaredDistances) {
+            squaredDistance += d;
+        }
+
+        return sqrt(squaredDistance);
+    }
+
+    /**
+     * Projects the slice of {@code v} with the dimension of {@code cone} onto {@code cone} in place.
+     *
+     * @param cone   cone
+     * @param v      vector, whose slice is overwritten with the projection
+     * @param offset start of the slice of {@code v}
+     */
+    public static void project(@NonNull Cone cone, double @NonNull [] v, int offset) {
+        checkSlice(cone, v, offset);
+        cone.project(v, offset);
+    }
+
+    /**
+     * @param cone   cone
+     * @param v      vector
+     * @param offset start of the slice of {@code v} with the dimension of {@code cone}
+     * @return Euclidean distance of the slice of {@code v} to {@code cone}
+     */
+    public static double distance(@NonNull Cone cone, double @NonNull [] v, int offset) {
+        checkSlice(cone, v, offset);
+        return sqrt(cone.squaredDistance(v, offset));
+    }
+
+    private static int[] offsets(List<Cone> cones, double[] v) {
+        val offsets = new int[cones.size() + 1];
+        for (var i = 0; i < cones.size(); i++) {
+            offsets[i + 1] = toIntExact(offsets[i] + cones.get(i).getDimension());
+        }
+        checkArgument(offsets[cones.size()] == v.length, "length of v must be equal to the dimension of the cones");
+
+        return offsets;
+    }
+
+    private static void checkSlice(Cone cone, double[] v, int offset) {
+        checkArgument(offset >= 0 && offset + cone.getDimension() <= v.length,
+                "slice of v must be within the bounds of v");
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.ustermetrics.clarabel4j;
 
+import lombok.val;
+
 import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.ClarabelExponentialConeT_Tag;
+import static java.lang.Math.*;
 
 /**
- * Exponential Cone
+ * Exponential Cone {@code K = closure{(x, y, z) | y > 0, y exp(x / y) <= z}}
  *
  * @see <a href="https://clarabel.org">Clarabel</a>
  */
 public final class ExponentialCone extends Cone {
 
+    private static final double TOLERANCE = 1e-12;
+    private static final int MAX_ITER = 100;
+
     @Override
     int getTag() {
         return ClarabelExponentialConeT_Tag();
@@ -19,4 +25,148 @@ public final class ExponentialCone extends Cone {
         return 3;
     }
 
+    @Override
+    double violation(double[] v, int offset) {
+        val x = v[offset];
+        val y = v[offset + 1];
+        val z = v[offset + 2];
+        if (y > 0.) {
+            return max(0., y * exp(x / y) - z);
+        }
+
+        return max(-y, max(max(0., x), max(0., -z)));
+    }
+
+    @Override
+    double dualViolation(double[] v, int offset) {
+        // The dual cone is closure{(u, v, w) | u < 0, -u exp(v / u) <= e w}
+        val u = v[offset];
+        val w = v[offset + 2];
+        if (u < 0.) {
+            return max(0., -u * exp(v[offset + 1] / u) - E * w);
+        }
+
+        return max(u, max(max(0., -v[offset + 1]), max(0., -w)));
+    }
+
+    @Override
+    void project(double[] v, int offset) {
+        // Projection of SCS, which bisects on the dual variable of the cone constraint
+        val x = v[offset];
+        val y = v[offset + 1];
+        val z = v[offset + 2];
+
+        // v in K
+        if (y > 0. && y * exp(x / y) - z <= TOLERANCE || x <= 0. && y == 0. && z >= 0.) {
+            return;
+        }
+
+        // -v in the dual cone
+        if (x > 0. && x * exp(y / x) + E * z <= TOLERANCE || x == 0. && y <= 0. && z <= 0.) {
+            v[offset] = v[offset + 1] = v[offset + 2] = 0.;
+            return;
+        }
+
+        // Analytical solution
+        if (x < 0. && y < 0.) {
+            v[offset + 1] = 0.;
+            v[offset + 2] = max(z, 0.);
+            return;
+        }
+
+        val projection = new double[3];
+        var lower = 0.;
+        var upper = 0.125;
+        while (gradient(x, y, z, upper, projection) > 0.) {
+            lower = upper;
+            upper *= 2.;
+        }
+        for (var i = 0; i < MAX_ITER && upper - lower > TOLERANCE; i++) {
+            val rho = (lower + upper) / 2.;
+            if (gradient(x, y, z, rho, projection) > 0.) {
+                lower = rho;
+            } else {
+                upper = rho;
+            }
+        }
+
+        // The bisection is ill-conditioned if the projection is close to the face y = 0. Hence, the candidate with the
+        // smallest error in the optimality conditions is taken among the bisection result, its refinement on the
+        // boundary of K, and two members of K, which are the projection in the limit.
+        val candidates = new double[][]{projection, refine(x, y, z, projection),
+                {x, y, y > 0. ? max(z, y * exp(x / y)) : Double.NaN}, {min(x, 0.), 0., max(z, 0.)}};
+        var best = projection;
+        var smallestError = Double.POSITIVE_INFINITY;
+        for (val candidate : candidates) {
+            val error = optimalityError(x, y, z, candidate);
+            if (error < smallestError) {
+                best = candidate;
+                smallestError = error;
+            }
+        }
+
+        System.arraycopy(best, 0, v, offset, 3);
+    }
+
+    /**
+     * Refines the projection on its boundary ray {@code t (rho, 1, exp(rho))} of K with Newton's method on the
+     * condition that v is in the plane spanned by the ray and the normal of K along the ray.
+     */
+    private static double[] refine(double x, double y, double z, double[] projection) {
+        var rho = projection[0] / projection[1];
+        for (var i = 0; i < MAX_ITER; i++) {
+            val expRho = exp(rho);
+            val expMinusRho = exp(-rho);
+            val f = x * (expMinusRho - (rho - 1.) * expRho) - y * (expRho + rho * expMinusRho)
+                    + z * (rho * rho - rho + 1.);
+            val fp = -x * (expMinusRho + rho * expRho) - y * (expRho + (1. - rho) * expMinusRho) + z * (2. * rho - 1.);
+            val step = f / fp;
+            rho -= step;
+            if (Double.isNaN(step) || abs(step) <= TOLERANCE * (1. + abs(rho))) {
+                break;
+            }
+        }
+
+        val expRho = exp(rho);
+        val t = max(0., (x * rho + y + z * expRho) / (rho * rho + 1. + expRho * expRho));
+        return new double[]{t * rho, t, t * expRho};
+    }
+
+    /**
+     * @return maximum of the violation of the candidate, the dual violation of the candidate minus v, and the
+     * complementarity, which is {@link Double#NaN} if the candidate is undefined
+     */
+    private double optimalityError(double x, double y, double z, double[] candidate) {
+        val d = new double[]{candidate[0] - x, candidate[1] - y, candidate[2] - z};
+        val complementarity = abs(candidate[0] * d[0] + candidate[1] * d[1] + candidate[2] * d[2]);
+        return max(max(violation(candidate, 0), dualViolation(d, 0)), complementarity);
+    }
+
+    private static double gradient(double x, double y, double z, double rho, double[] projection) {
+        projection[2] = newton(y, z, rho);
+        projection[1] = (projection[2] - z) * projection[2] / rho;
+        projection[0] = x - rho;
+
+        return projection[1] <= 1e-12 ? projection[0]
+                : projection[0] + projection[1] * log(projection[1] / projection[2]);
+    }
+
+    private static double newton(double y, double z, double rho) {
+        var t = max(-z, 1e-6);
+        for (var i = 0; i < MAX_ITER; i++) {
+            val f = t * (t + z) / rho / rho - y / rho + log(t / rho) + 1.;
+            val fp = (2. * t + z) / rho / rho + 1. / t;
+            t -= f / fp;
+            if (t <= -z) {
+                return 0.;
+            } else if (t <= 0.) {
+                return z;
+            } else if (abs(f) < TOLERANCE) {
+                break;
+            }
+        }
+
+        return t + z;
+    }
+
 }
@@ -2,15 +2,17 @@ package com.ustermetrics.clarabel4j;
 
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.val;
 
 import java.util.Arrays;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.ClarabelGenPowerConeT_Tag;
-import static java.lang.Math.abs;
+import static java.lang.Math.*;
 
 /**
- * Generalized Power Cone
+ * Generalized Power Cone {@code K = {(u, w) | prod_i u_i^a_i >= ||w||, u >= 0}} with {@code u} of the length of
+ * {@code a} and {@code w} of length {@code n}
  *
  * @see <a href="https://clarabel.org">Clarabel</a>
  */
@@ -18,6 +20,8 @@ import static java.lang.Math.abs;
 public final class GenPowerCone extends Cone {
 
     private static final double TOLERANCE = Math.ulp(1.);
+    private static final double PROJECTION_TOLERANCE = 1e-12;
+    private static final int MAX_ITER = 100;
 
     private final double[] a;
     private final long n;
@@ -47,4 +51,105 @@ public final class GenPowerCone extends Cone {
         return a.length + n;
     }
 
+    @Override
+    double violation(double[] v, int offset) {
+        return violation(v, offset, false);
+    }
+
+    @Override
+    double dualViolation(double[] v, int offset) {
+        // The dual cone is {(u, w) | prod_i (u_i / a_i)^a_i >= ||w||, u >= 0}
+        return violation(v, offset, true);
+    }
+
+    @Override
+    void project(double[] v, int offset) {
+        val u = Arrays.copyOfRange(v, offset, offset + a.length);
+        var r = 0.;
+        for (var i = offset + a.length; i < offset + a.length + n; i++) {
+            r = hypot(r, v[i]);
+        }
+
+        // v in K or -v in the dual cone
+        if (violation(v, offset, false) <= PROJECTION_TOLERANCE) {
+            return;
+        }
+        var dualProduct = 0.;
+        var nonpositive = true;
+        for (var i = 0; i < a.length; i++) {
+            nonpositive &= u[i] <= 0.;
+            dualProduct += a[i] * log(max(0., -u[i] / a[i]));
+        }
+        if (nonpositive && exp(dualProduct) + PROJECTION_TOLERANCE >= r) {
+            Arrays.fill(v, offset, toIntExact(offset + getDimension()), 0.);
+            return;
+        }
+
+        val projection = new double[a.length];
+        val norm = project(u, a, r, projection);
+        System.arraycopy(projection, 0, v, offset, a.length);
+        for (var i = offset + a.length; i < offset + a.length + n; i++) {
+            v[i] = r > 0. ? v[i] * norm / r : 0.;
+        }
+    }
+
+    /**
+     * Projects {@code (u, w)} onto the generalized power cone with power {@code alpha}, where {@code (u, w)} is
+     * neither in the cone nor in the polar cone, with Newton's method on the norm of the projection of {@code w}.
+     *
+     * @param u          first part of the vector
+     * @param alpha      power defining the cone
+     * @param r          norm of the second part of the vector
+     * @param projection first part of the projection, which is overwritten
+     * @return norm of the second part of the projection
+     */
+    static double project(double[] u, double[] alpha, double r, double[] projection) {
+        if (r == 0.) {
+            for (var i = 0; i < alpha.length; i++) {
+                projection[i] = max(0., u[i]);
+            }
+            return 0.;
+        }
+
+        var norm = r / 2.;
+        for (var iter = 0; iter < MAX_ITER; iter++) {
+            var logProduct = 0.;
+            for (var i = 0; i < alpha.length; i++) {
+                projection[i] = max(0.5 * (u[i] + sqrt(u[i] * u[i] + 4. * alpha[i] * norm * (r - norm))), 1e-12);
+                logProduct += alpha[i] * log(projection[i]);
+            }
+
+            val product = exp(logProduct);
+            val f = product - norm;
+            if (abs(f) < PROJECTION_TOLERANCE) {
+                break;
+            }
+
+            var df = 0.;
+            for (var i = 0; i < alpha.length; i++) {
+                df += alpha[i] * alpha[i] * (r - 2. * norm) / (2. * projection[i] - u[i]) / projection[i];
+            }
+            norm = min(max(norm - f / (product * df - 1.), 0.), r);
+        }
+
+        return norm;
+    }
+
+    private double violation(double[] v, int offset, boolean dual) {
+        var violation = 0.;
+        var logProduct = 0.;
+        for (var i = 0; i < a.length; i++) {
+            val u = v[offset + i];
+            violation = max(violation, -u);
+            logProduct += a[i] * log(max(0., dual ? u / a[i] : u));
+        }
+
+        var norm = 0.;
+        for (var i = offset + a.length; i < offset + a.length + n; i++) {
+            norm = hypot(norm, v[i]);
+        }
+
+        return max(violation, max(0., norm - exp(logProduct)));
+    }
+
 }
@@ -0,0 +1,136 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.NonNull;
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The iteration table of the verbose <a href="https://clarabel.org">Clarabel</a> solver output in columnar form, with
+ * one primitive array per column.
+ * <p>
+ * Entries which the solver does not print, i.e. the step length of iteration zero, are {@link Double#NaN}.
+ *
+ * @param iter  iteration
+ * @param pcost primal cost
+ * @param dcost dual cost
+ * @param gap   duality gap
+ * @param pres  primal residual
+ * @param dres  dual residual
+ * @param kt    kappa over tau
+ * @param mu    complementarity
+ * @param step  step length
+ */
+public record IterationTrace(int @NonNull [] iter, double @NonNull [] pcost, double @NonNull [] dcost,
+                             double @NonNull [] gap, double @NonNull [] pres, double @NonNull [] dres,
+                             double @NonNull [] kt, double @NonNull [] mu, double @NonNull [] step) {
+
+    private static final int COLUMNS = 9;
+
+    public IterationTrace {
+        val n = iter.length;
+        checkArgument(pcost.length == n && dcost.length == n && gap.length == n && pres.length == n
+                && dres.length == n && kt.length == n && mu.length == n && step.length == n,
+                "columns must have the same length");
+    }
+
+    /**
+     * Parses the iteration table from the given solver output, e.g. {@link Model#getStringOutput()}.
+     *
+     * @param output verbose solver output
+     * @return the iteration trace
+     */
+    public static IterationTrace parse(@NonNull String output) {
+        val parser = new Parser();
+        output.lines().forEach(parser);
+        return parser.trace();
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int size() {
+        return iter.length;
+    }
+
+    /**
+     * An incremental parser of the iteration table, which consumes solver output line by line, e.g. as the consumer of
+     * a {@link StreamOutput}.
+     * <p>
+     * Rows are recognized after a table header. Other lines are ignored.
+     */
+    public static final class Parser implements Consumer<String> {
+
+        private static final int INITIAL_CAPACITY = 32;
+
+        private boolean inTable;
+        private int size;
+        private int[] iter = new int[INITIAL_CAPACITY];
+        private final double[][] values = new double[COLUMNS - 1][INITIAL_CAPACITY];
+
+        /**
+         * Consumes the next line of solver output.
+         *
+         * @param line line of solver output
+         */
+        @Override
+        public synchronized void accept(@NonNull String line) {
+            val fields = line.strip().split("\\s+");
+            if (fields[0].equals("iter")) {
+                inTable = true;
+            } else if (inTable && fields.length == COLUMNS && isInteger(fields[0])) {
+                if (size == iter.length) {
+                    grow();
+                }
+                iter[size] = Integer.parseInt(fields[0]);
+                for (var j = 1; j < COLUMNS; j++) {
+                    values[j - 1][size] = parseValue(fields[j]);
+                }
+                size++;
+            } else if (!fields[0].startsWith("---")) {
+                inTable = false;
+            }
+        }
+
+        private void grow() {
+            val capacity = 2 * iter.length;
+            iter = Arrays.copyOf(iter, capacity);
+            for (var j = 0; j < values.length; j++) {
+                values[j] = Arrays.copyOf(values[j], capacity);
+            }
+        }
+
+        private static boolean isInteger(String field) {
+            return !field.isEmpty() && field.chars().allMatch(Character::isDigit);
+        }
+
+        private static double parseValue(String field) {
+            return switch (field) {
+                case "inf", "Inf" -> Double.POSITIVE_INFINITY;
+                case "-inf", "-Inf" -> Double.NEGATIVE_INFINITY;
+                default -> {
+                    try {
+                        yield Double.parseDouble(field);
+                    } catch (NumberFormatException e) {
+                        yield Double.NaN;
+                    }
+                }
+            };
+        }
+
+        /**
+         * @return the iteration trace of the rows consumed so far
+         */
+        public synchronized IterationTrace trace() {
+            return new IterationTrace(Arrays.copyOf(iter, size), Arrays.copyOf(values[0], size),
+                    Arrays.copyOf(values[1], size), Arrays.copyOf(values[2], size), Arrays.copyOf(values[3], size),
+                    Arrays.copyOf(values[4], size), Arrays.copyOf(values[5], size), Arrays.copyOf(values[6], size),
+                    Arrays.copyOf(values[7], size));
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.invoke.MethodHandle;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A named pipe, whose lines are read by a background thread and delivered to a consumer, until the writer closes the
+ * pipe.
+ * <p>
+ * The pipe and its temporary directory are deleted on close. If no writer ever opened the pipe, then the reader, which
+ * waits for a writer, is released on close.
+ */
+final class LogStream implements AutoCloseable {
+
+    private static final MethodHandle MKFIFO = Linker.nativeLinker().defaultLookup().find("mkfifo")
+            .map(a -> Linker.nativeLinker().downcallHandle(a, FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT)))
+            .orElse(null);
+    private static final int MODE = 0600;
+    private static final long POLL_MILLIS = 10;
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    private final Path directory;
+    private final Path path;
+    private final Thread reader;
+    private volatile boolean opened;
+    private volatile RuntimeException exception;
+
+    private LogStream(Path directory, Consumer<String> consumer) {
+        this.directory = directory;
+        path = directory.resolve("log");
+        mkfifo(path);
+        reader = Thread.ofPlatform().daemon().name("clarabel4j-log").start(() -> read(consumer));
+    }
+
+    /**
+     * Creates a new named pipe and starts reading it.
+     *
+     * @param consumer consumer of the log lines
+     * @return the log stream
+     */
+    static LogStream open(Consumer<String> consumer) {
+        checkState(MKFIFO != null, "stream output must be supported on this platform");
+
+        try {
+            return new LogStream(Files.createTempDirectory("clarabel4j-"), consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void mkfifo(Path path) {
+        try (val arena = Arena.ofConfined()) {
+            int result;
+            try {
+                result = (int) MKFIFO.invokeExact(arena.allocateFrom(path.toString()), MODE);
+            } catch (Throwable e) {
+                throw new AssertionError("should not reach here", e);
+            }
+            checkState(result == 0, "named pipe must be created");
+        }
+    }
+
+    private void read(Consumer<String> consumer) {
+        // Drains the pipe even if the consumer fails, otherwise the solver blocks on a full pipe
+        try (val lines = Files.newBufferedReader(path)) {
+            opened = true;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (exception == null) {
+                    try {
+                        consumer.accept(line);
+                    } catch (RuntimeException e) {
+                        exception = e;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            exception = new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens and closes the pipe as a writer without writing, such that a reader which waits for a writer reads the end
+     * of the stream. Opening the pipe for reading and writing does not block, even if there is no reader.
+     */
+    private void release() {
+        try (val _ = FileChannel.open(path, READ, WRITE)) {
+            // Nothing to write
+        } catch (IOException e) {
+            // The reader fails on its own if the pipe is unusable
+        }
+    }
+
+    /**
+     * @return path of the named pipe, which the solver needs to open for writing
+     */
+    String path() {
+        return path.toString();
+    }
+
+    /**
+     * Waits until the writer closed the pipe and all lines are delivered, and deletes the pipe and its directory. Must
+     * be called after the writer closed the pipe. Waits at most one minute for the consumer.
+     *
+     * @throws RuntimeException if the consumer failed, the pipe could not be read, or the reader did not terminate
+     */
+    @Override
+    public void close() {
+        try {
+            val deadline = System.nanoTime() + TIMEOUT_MILLIS * 1_000_000;
+            while (reader.isAlive() && System.nanoTime() < deadline) {
+                if (!opened) {
+                    release();
+                }
+                reader.join(POLL_MILLIS);
+            }
+            if (reader.isAlive() && exception == null) {
+                exception = new IllegalStateException("log stream reader must terminate");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                exception = exception != null ? exception : new UncheckedIOException(e);
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+}
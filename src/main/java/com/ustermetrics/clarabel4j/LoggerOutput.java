@@ -0,0 +1,70 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.function.Consumer;
+
+/**
+ * Logger output, which forwards the log lines of the solver to an <a href="https://www.slf4j.org">SLF4J</a> logger
+ * at level info, with the model id in the mapped diagnostic context under the key {@link #MDC_KEY}.
+ * <p>
+ * Lines are read from the solver as with {@link StreamOutput} and passed through a bounded buffer to a single
+ * background thread, which calls the logger, hence slow appenders do not slow down the solver. If the buffer is full,
+ * then lines are dropped, see {@link #dropped()}. Requires a platform with named pipes, i.e. Linux or macOS.
+ */
+@Getter
+public final class LoggerOutput implements Output {
+
+    /**
+     * The key of the model id in the mapped diagnostic context.
+     */
+    public static final String MDC_KEY = "clarabel4j.model";
+
+    private final String loggerName;
+    private final String modelId;
+
+    /**
+     * Creates a new logger output with the logger of {@link Model}.
+     *
+     * @param modelId model id
+     */
+    public LoggerOutput(@NonNull String modelId) {
+        this(Model.class.getName(), modelId);
+    }
+
+    /**
+     * Creates a new logger output.
+     *
+     * @param loggerName name of the logger
+     * @param modelId    model id
+     */
+    public LoggerOutput(@NonNull String loggerName, @NonNull String modelId) {
+        this.loggerName = loggerName;
+        this.modelId = modelId;
+    }
+
+    /**
+     * @return number of lines dropped by all logger outputs because the buffer was full
+     */
+    public static long dropped() {
+        return AsyncLog.INSTANCE.dropped();
+    }
+
+    /**
+     * @param log buffer of log tasks
+     * @return consumer of the log lines, which appends a log task per line to {@code log}
+     */
+    Consumer<String> consumer(AsyncLog log) {
+        val logger = LoggerFactory.getLogger(loggerName);
+        return line -> log.offer(() -> {
+            try (val _ = MDC.putCloseable(MDC_KEY, modelId)) {
+                logger.info(line);
+            }
+        });
+    }
+
+}
@@ -5,9 +5,11 @@ import lombok.NonNull;
 import lombok.val;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.addExact;
 import static java.lang.Math.toIntExact;
 
 /**
@@ -23,13 +25,24 @@ import static java.lang.Math.toIntExact;
 @Builder
 public record Matrix(int m, int n, long @NonNull [] colPtr, long @NonNull [] rowVal, double @NonNull [] nzVal) {
 
+    private static final int MIN_BLOCK_NNZ = 1 << 16;
+
     public Matrix {
+        if (SparsityPattern.lookup(m, n, colPtr, rowVal) == null) {
+            checkPattern(m, n, colPtr, rowVal);
+        }
+        checkArgument(nzVal.length == rowVal.length, "length of data must be equal to the length of the row index");
+    }
+
+    /**
+     * Checks the dimensions, the column index, and the row index of a matrix.
+     */
+    static void checkPattern(int m, int n, long[] colPtr, long[] rowVal) {
         checkArgument(m > 0, "number of rows must be positive");
         checkArgument(n > 0, "number of columns must be positive");
         checkArgument(colPtr.length > 0, "length of the column index must be positive");
 
-        val nnz = nzVal.length;
-        checkArgument(nnz == rowVal.length, "length of data must be equal to the length of the row index");
+        val nnz = rowVal.length;
         checkArgument(colPtr.length == n + 1,
                 "length of the column index must be equal to the number of columns plus one");
         checkArgument(nnz <= (long) m * n,
@@ -49,4 +62,700 @@ public record Matrix(int m, int n, long @NonNull [] colPtr, long @NonNull [] row
                 "entries of the row index within each column must be strictly ordered");
     }
 
+    /**
+     * Creates a matrix from a
+     * <a href="https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_row_(CSR,_CRS_or_Yale_format)">sparse Compressed Sparse Row (CSR) matrix</a>.
+     *
+     * @param m      number of rows
+     * @param n      number of columns
+     * @param rowPtr row index
+     * @param colVal column index. Entries within each row need to appear in order of increasing column index.
+     * @param nzVal  data
+     * @return the matrix in CCS format
+     */
+    public static Matrix fromCsr(int m, int n, long @NonNull [] rowPtr, long @NonNull [] colVal,
+                                 double @NonNull [] nzVal) {
+        return new Matrix(n, m, rowPtr, colVal, nzVal).transpose();
+    }
+
+    /**
+     * Creates a matrix from a sparse Compressed Sparse Row (CSR) matrix in parallel.
+     * <p>
+     * Same as {@link #fromCsr(int, int, long[], long[], double[])}, but uses {@link #parallelTranspose()}.
+     *
+     * @param m      number of rows
+     * @param n      number of columns
+     * @param rowPtr row index
+     * @param colVal column index. Entries within each row need to appear in order of increasing column index.
+     * @param nzVal  data
+     * @return the matrix in CCS format
+     */
+    public static Matrix parallelFromCsr(int m, int n, long @NonNull [] rowPtr, long @NonNull [] colVal,
+                                         double @NonNull [] nzVal) {
+        return new Matrix(n, m, rowPtr, colVal, nzVal).parallelTranspose();
+    }
+
+    /**
+     * Transposes this matrix in O(nnz) time by counting the entries per row and scattering them into the columns of
+     * the result. Entries within each column of the result are ordered by increasing row index.
+     *
+     * @return the transposed matrix
+     */
+    public Matrix transpose() {
+        val nnz = nzVal.length;
+        val tColPtr = new long[m + 1];
+        for (val i : rowVal) {
+            tColPtr[(int) i + 1]++;
+        }
+        for (var i = 0; i < m; i++) {
+            tColPtr[i + 1] += tColPtr[i];
+        }
+
+        val next = Arrays.copyOf(tColPtr, m);
+        val tRowVal = new long[nnz];
+        val tNzVal = new double[nnz];
+        for (var j = 0; j < n; j++) {
+            val end = (int) colPtr[j + 1];
+            for (var k = (int) colPtr[j]; k < end; k++) {
+                val l = (int) next[(int) rowVal[k]]++;
+                tRowVal[l] = j;
+                tNzVal[l] = nzVal[k];
+            }
+        }
+
+        return new Matrix(n, m, tColPtr, tRowVal, tNzVal);
+    }
+
+    /**
+     * Transposes this matrix in parallel.
+     * <p>
+     * Same as {@link #transpose()}, but the columns are split into blocks of roughly equal number of non-zero entries,
+     * which are counted and scattered in parallel. Each block needs a count array of length {@code m}.
+     *
+     * @return the transposed matrix
+     */
+    public Matrix parallelTranspose() {
+        val blocks = columnBlocks();
+        val nBlocks = blocks.length - 1;
+        if (nBlocks == 1) {
+            return transpose();
+        }
+
+        val counts = new int[nBlocks][m];
+        IntStream.range(0, nBlocks).parallel().forEach(b -> {
+            val count = counts[b];
+            val end = (int) colPtr[blocks[b + 1]];
+            for (var k = (int) colPtr[blocks[b]]; k < end; k++) {
+                count[(int) rowVal[k]]++;
+            }
+        });
+
+        val tColPtr = new long[m + 1];
+        for (var i = 0; i < m; i++) {
+            var start = tColPtr[i];
+            for (val count : counts) {
+                val c = count[i];
+                count[i] = (int) start;
+                start += c;
+            }
+            tColPtr[i + 1] = start;
+        }
+
+        val nnz = nzVal.length;
+        val tRowVal = new long[nnz];
+        val tNzVal = new double[nnz];
+        IntStream.range(0, nBlocks).parallel().forEach(b -> {
+            val next = counts[b];
+            for (var j = blocks[b]; j < blocks[b + 1]; j++) {
+                val end = (int) colPtr[j + 1];
+                for (var k = (int) colPtr[j]; k < end; k++) {
+                    val l = next[(int) rowVal[k]]++;
+                    tRowVal[l] = j;
+                    tNzVal[l] = nzVal[k];
+                }
+            }
+        });
+
+        return new Matrix(n, m, tColPtr, tRowVal, tNzVal);
+    }
+
+    /**
+     * Creates a matrix from a dense matrix, dropping entries equal to zero.
+     *
+     * @param a dense matrix in row-major order
+     * @return the matrix in CCS format
+     */
+    public static Matrix fromDense(double @NonNull [] @NonNull [] a) {
+        return fromDense(a, 0.);
+    }
+
+    /**
+     * Creates a matrix from a dense matrix, dropping entries with an absolute value less equal than the drop
+     * tolerance.
+     * <p>
+     * The conversion takes two passes over the rows of {@code a}, which are read contiguously: the first pass counts
+     * the kept entries per column such that the arrays of the result are allocated with their exact length, and the
+     * second pass fills them.
+     *
+     * @param a             dense matrix in row-major order
+     * @param dropTolerance entries with an absolute value less equal than the drop tolerance are dropped
+     * @return the matrix in CCS format
+     */
+    public static Matrix fromDense(double @NonNull [] @NonNull [] a, double dropTolerance) {
+        checkArgument(a.length > 0, "number of rows must be positive");
+        val n = a[0].length;
+        checkArgument(Arrays.stream(a).allMatch(r -> r.length == n), "all rows must have equal length");
+        checkArgument(dropTolerance >= 0., "drop tolerance must be greater equal zero");
+
+        val m = a.length;
+        val colPtr = new long[n + 1];
+        for (val row : a) {
+            countDenseRow(row, 0, n, dropTolerance, colPtr);
+        }
+        val next = prefixSum(colPtr);
+        val nnz = toIntExact(colPtr[n]);
+        val rowVal = new long[nnz];
+        val nzVal = new double[nnz];
+        for (var i = 0; i < m; i++) {
+            fillDenseRow(a[i], 0, n, i, dropTolerance, next, rowVal, nzVal);
+        }
+
+        return new Matrix(m, n, colPtr, rowVal, nzVal);
+    }
+
+    /**
+     * Creates a matrix from a dense matrix stored in a one-dimensional row-major array, dropping entries equal to
+     * zero.
+     *
+     * @param m number of rows
+     * @param n number of columns
+     * @param a dense matrix in row-major order, i.e. entry {@code (i, j)} is {@code a[i * n + j]}
+     * @return the matrix in CCS format
+     */
+    public static Matrix fromDense(int m, int n, double @NonNull [] a) {
+        return fromDense(m, n, a, 0.);
+    }
+
+    /**
+     * Creates a matrix from a dense matrix stored in a one-dimensional row-major array, dropping entries with an
+     * absolute value less equal than the drop tolerance.
+     * <p>
+     * Same as {@link #fromDense(double[][], double)}.
+     *
+     * @param m             number of rows
+     * @param n             number of columns
+     * @param a             dense matrix in row-major order, i.e. entry {@code (i, j)} is {@code a[i * n + j]}
+     * @param dropTolerance entries with an absolute value less equal than the drop tolerance are dropped
+     * @return the matrix in CCS format
+     */
+    public static Matrix fromDense(int m, int n, double @NonNull [] a, double dropTolerance) {
+        checkArgument(m > 0, "number of rows must be positive");
+        checkArgument(n > 0, "number of columns must be positive");
+        checkArgument(a.length == (long) m * n,
+                "length of the array must be equal to the number of rows times the number of columns");
+        checkArgument(dropTolerance >= 0., "drop tolerance must be greater equal zero");
+
+        val colPtr = new long[n + 1];
+        for (var i = 0; i < m; i++) {
+            countDenseRow(a, i * n, n, dropTolerance, colPtr);
+        }
+        val next = prefixSum(colPtr);
+        val nnz = toIntExact(colPtr[n]);
+        val rowVal = new long[nnz];
+        val nzVal = new double[nnz];
+        for (var i = 0; i < m; i++) {
+            fillDenseRow(a, i * n, n, i, dropTolerance, next, rowVal, nzVal);
+        }
+
+        return new Matrix(m, n, colPtr, rowVal, nzVal);
+    }
+
+    /**
+     * Creates the upper triangular part of a dense symmetric matrix, e.g. a covariance matrix, as needed for the cost
+     * function matrix P of a {@link Model}.
+     * <p>
+     * The lower half is skipped in one pass: column {@code j} of the result is read from the contiguous entries
+     * {@code a[j][0]}, ..., {@code a[j][j]}, which by symmetry equal the upper triangular entries of column {@code j}.
+     * Entries equal to zero are dropped.
+     *
+     * @param a dense symmetric matrix in row-major order
+     * @return the upper triangular part of {@code a}
+     */
+    public static Matrix fromDenseSymmetric(double @NonNull [] @NonNull [] a) {
+        return fromDenseSymmetric(a, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Creates the upper triangular part of a dense symmetric matrix after verifying its symmetry.
+     * <p>
+     * Same as {@link #fromDenseSymmetric(double[][])}, but additionally verifies that
+     * {@code |a[i][j] - a[j][i]| <= tolerance} for all {@code i} and {@code j}, which requires reading the lower half
+     * as well.
+     *
+     * @param a         dense symmetric matrix in row-major order
+     * @param tolerance absolute tolerance of the symmetry check
+     * @return the upper triangular part of {@code a}
+     */
+    public static Matrix fromDenseSymmetric(double @NonNull [] @NonNull [] a, double tolerance) {
+        val n = a.length;
+        checkArgument(n > 0, "number of rows must be positive");
+        checkArgument(Arrays.stream(a).allMatch(r -> r.length == n), "matrix must be square");
+        checkArgument(tolerance >= 0., "tolerance must be greater equal zero");
+
+        val checkSymmetry = tolerance < Double.POSITIVE_INFINITY;
+        val capacity = toIntExact((long) n * (n + 1) / 2);
+        val colPtr = new long[n + 1];
+        var rowVal = new long[capacity];
+        var nzVal = new double[capacity];
+        var k = 0;
+        for (var j = 0; j < n; j++) {
+            val row = a[j];
+            for (var i = 0; i <= j; i++) {
+                val v = row[i];
+                if (checkSymmetry) {
+                    checkArgument(Math.abs(v - a[i][j]) <= tolerance, "matrix must be symmetric within the tolerance");
+                }
+                if (v != 0.) {
+                    rowVal[k] = i;
+                    nzVal[k] = v;
+                    k++;
+                }
+            }
+            colPtr[j + 1] = k;
+        }
+
+        if (k < capacity) {
+            rowVal = Arrays.copyOf(rowVal, k);
+            nzVal = Arrays.copyOf(nzVal, k);
+        }
+
+        return new Matrix(n, n, colPtr, rowVal, nzVal);
+    }
+
+    /**
+     * Returns the upper triangular part of this matrix including the diagonal, i.e. all entries with row index less
+     * equal than the column index.
+     * <p>
+     * Since entries within each column are ordered by increasing row index, the upper triangular entries of each
+     * column form a prefix of the column and are copied in bulk. If this matrix is already upper triangular, then
+     * this matrix is returned without copying.
+     *
+     * @return the upper triangular part of this matrix
+     */
+    public Matrix upperTriangle() {
+        val ends = new int[n];
+        var nnz = 0;
+        for (var j = 0; j < n; j++) {
+            val start = (int) colPtr[j];
+            val end = (int) colPtr[j + 1];
+            var e = start;
+            while (e < end && rowVal[e] <= j) {
+                e++;
+            }
+            ends[j] = e;
+            nnz += e - start;
+        }
+
+        if (nnz == nzVal.length) {
+            return this;
+        }
+
+        val uColPtr = new long[n + 1];
+        val uRowVal = new long[nnz];
+        val uNzVal = new double[nnz];
+        var k = 0;
+        for (var j = 0; j < n; j++) {
+            val start = (int) colPtr[j];
+            val length = ends[j] - start;
+            System.arraycopy(rowVal, start, uRowVal, k, length);
+            System.arraycopy(nzVal, start, uNzVal, k, length);
+            k += length;
+            uColPtr[j + 1] = k;
+        }
+
+        return new Matrix(m, n, uColPtr, uRowVal, uNzVal);
+    }
+
+    /**
+     * @param permutation permutation of the rows, where row {@code i} of the result is row {@code permutation[i]} of
+     *                    this matrix
+     * @return the matrix with permuted rows
+     */
+    Matrix permuteRows(int[] permutation) {
+        // The columns of the transpose are the rows of this matrix, transposing back sorts the row indices
+        val t = transpose();
+        val pColPtr = new long[m + 1];
+        val pRowVal = new long[nzVal.length];
+        val pNzVal = new double[nzVal.length];
+        var k = 0;
+        for (var i = 0; i < m; i++) {
+            val start = (int) t.colPtr[permutation[i]];
+            val length = (int) t.colPtr[permutation[i] + 1] - start;
+            System.arraycopy(t.rowVal, start, pRowVal, k, length);
+            System.arraycopy(t.nzVal, start, pNzVal, k, length);
+            k += length;
+            pColPtr[i + 1] = k;
+        }
+
+        return new Matrix(n, m, pColPtr, pRowVal, pNzVal).transpose();
+    }
+
+    /**
+     * Computes the matrix-vector product {@code y = Ax} without allocating.
+     *
+     * @param x vector of length {@code n}
+     * @param y vector of length {@code m}, which is overwritten with the result
+     */
+    public void multiply(double @NonNull [] x, double @NonNull [] y) {
+        checkMultiplyArguments(x, y);
+
+        Arrays.fill(y, 0.);
+        for (var j = 0; j < n; j++) {
+            val xj = x[j];
+            val end = (int) colPtr[j + 1];
+            for (var k = (int) colPtr[j]; k < end; k++) {
+                y[(int) rowVal[k]] += nzVal[k] * xj;
+            }
+        }
+    }
+
+    /**
+     * Computes the matrix-vector product {@code y = Ax} in parallel without allocating.
+     * <p>
+     * Since the columns of a CCS matrix scatter into all rows, the rows are split into blocks instead, such that each
+     * block writes a disjoint part of {@code y}. Each block visits all columns and locates its rows within a column by
+     * binary search.
+     *
+     * @param x vector of length {@code n}
+     * @param y vector of length {@code m}, which is overwritten with the result
+     */
+    public void parallelMultiply(double @NonNull [] x, double @NonNull [] y) {
+        checkMultiplyArguments(x, y);
+
+        val nBlocks = Math.min(numberOfBlocks(), m);
+        if (nBlocks == 1) {
+            multiply(x, y);
+            return;
+        }
+
+        IntStream.range(0, nBlocks).parallel().forEach(b -> {
+            val rowStart = (int) ((long) m * b / nBlocks);
+            val rowEnd = (int) ((long) m * (b + 1) / nBlocks);
+            Arrays.fill(y, rowStart, rowEnd, 0.);
+            for (var j = 0; j < n; j++) {
+                val start = (int) colPtr[j];
+                val end = (int) colPtr[j + 1];
+                if (start == end || rowVal[start] >= rowEnd || rowVal[end - 1] < rowStart) {
+                    continue;
+                }
+                var k = rowVal[start] >= rowStart ? start : Arrays.binarySearch(rowVal, start, end, rowStart);
+                if (k < 0) {
+                    k = -k - 1;
+                }
+                val xj = x[j];
+                for (; k < end && rowVal[k] < rowEnd; k++) {
+                    y[(int) rowVal[k]] += nzVal[k] * xj;
+                }
+            }
+        });
+    }
+
+    /**
+     * Computes the transposed matrix-vector product {@code y = A'x} without allocating.
+     *
+     * @param x vector of length {@code m}
+     * @param y vector of length {@code n}, which is overwritten with the result
+     */
+    public void transposeMultiply(double @NonNull [] x, double @NonNull [] y) {
+        checkTransposeMultiplyArguments(x, y);
+        transposeMultiply(x, y, 0, n);
+    }
+
+    /**
+     * Computes the transposed matrix-vector product {@code y = A'x} in parallel without allocating.
+     * <p>
+     * The columns are split into blocks of roughly equal number of non-zero entries, such that each block writes a
+     * disjoint part of {@code y}.
+     *
+     * @param x vector of length {@code m}
+     * @param y vector of length {@code n}, which is overwritten with the result
+     */
+    public void parallelTransposeMultiply(double @NonNull [] x, double @NonNull [] y) {
+        checkTransposeMultiplyArguments(x, y);
+
+        val blocks = columnBlocks();
+        IntStream.range(0, blocks.length - 1).parallel()
+                .forEach(b -> transposeMultiply(x, y, blocks[b], blocks[b + 1]));
+    }
+
+    private void transposeMultiply(double[] x, double[] y, int colStart, int colEnd) {
+        for (var j = colStart; j < colEnd; j++) {
+            var yj = 0.;
+            val end = (int) colPtr[j + 1];
+            for (var k = (int) colPtr[j]; k < end; k++) {
+                yj += nzVal[k] * x[(int) rowVal[k]];
+            }
+            y[j] = yj;
+        }
+    }
+
+    /**
+     * Computes the quadratic form {@code x'Px} of this symmetric matrix P, of which only the upper triangular part is
+     * stored, as for the cost function matrix P of a {@link Model}. Entries below the diagonal are ignored.
+     *
+     * @param x vector of length {@code n}
+     * @return the quadratic form
+     */
+    public double quadraticForm(double @NonNull [] x) {
+        checkQuadraticFormArguments(x);
+        return quadraticForm(x, 0, n);
+    }
+
+    /**
+     * Computes the quadratic form {@code x'Px} of this symmetric matrix P in parallel.
+     * <p>
+     * Same as {@link #quadraticForm(double[])}, but the columns are split into blocks of roughly equal number of
+     * non-zero entries, whose partial sums are added up.
+     *
+     * @param x vector of length {@code n}
+     * @return the quadratic form
+     */
+    public double parallelQuadraticForm(double @NonNull [] x) {
+        checkQuadraticFormArguments(x);
+
+        val blocks = columnBlocks();
+        return IntStream.range(0, blocks.length - 1).parallel()
+                .mapToDouble(b -> quadraticForm(x, blocks[b], blocks[b + 1]))
+                .sum();
+    }
+
+    private double quadraticForm(double[] x, int colStart, int colEnd) {
+        var offDiagonal = 0.;
+        var diagonal = 0.;
+        for (var j = colStart; j < colEnd; j++) {
+            var pxj = 0.;
+            val end = (int) colPtr[j + 1];
+            for (var k = (int) colPtr[j]; k < end; k++) {
+                val i = (int) rowVal[k];
+                if (i < j) {
+                    pxj += nzVal[k] * x[i];
+                } else if (i == j) {
+                    diagonal += nzVal[k] * x[j] * x[j];
+                }
+            }
+            offDiagonal += pxj * x[j];
+        }
+
+        return 2. * offDiagonal + diagonal;
+    }
+
+    private void checkMultiplyArguments(double[] x, double[] y) {
+        checkArgument(x.length == n, "length of x must be equal to the number of columns");
+        checkArgument(y.length == m, "length of y must be equal to the number of rows");
+    }
+
+    private void checkTransposeMultiplyArguments(double[] x, double[] y) {
+        checkArgument(x.length == m, "length of x must be equal to the number of rows");
+        checkArgument(y.length == n, "length of y must be equal to the number of columns");
+    }
+
+    private void checkQuadraticFormArguments(double[] x) {
+        checkArgument(m == n, "matrix must be square");
+        checkArgument(x.length == n, "length of x must be equal to the number of columns");
+    }
+
+    /**
+     * Stacks the given matrices vertically, i.e. {@code [A1; A2; ...]}.
+     * <p>
+     * The column index, row index, and data of the result are allocated exactly once and filled directly from the
+     * given matrices.
+     *
+     * @param matrices matrices with equal number of columns
+     * @return the vertically stacked matrix
+     */
+    public static Matrix vstack(@NonNull Matrix @NonNull ... matrices) {
+        checkArgument(matrices.length > 0, "at least one matrix must be supplied");
+        val n = matrices[0].n;
+        checkArgument(Arrays.stream(matrices).allMatch(a -> a.n == n),
+                "number of columns of all matrices must be equal");
+
+        var m = 0;
+        var nnz = 0;
+        for (val a : matrices) {
+            m = addExact(m, a.m);
+            nnz = addExact(nnz, a.nzVal.length);
+        }
+
+        val colPtr = new long[n + 1];
+        val rowVal = new long[nnz];
+        val nzVal = new double[nnz];
+        var k = 0;
+        for (var j = 0; j < n; j++) {
+            var rowOffset = 0L;
+            for (val a : matrices) {
+                val start = toIntExact(a.colPtr[j]);
+                val end = toIntExact(a.colPtr[j + 1]);
+                for (var i = start; i < end; i++, k++) {
+                    rowVal[k] = a.rowVal[i] + rowOffset;
+                    nzVal[k] = a.nzVal[i];
+                }
+                rowOffset += a.m;
+            }
+            colPtr[j + 1] = k;
+        }
+
+        return new Matrix(m, n, colPtr, rowVal, nzVal);
+    }
+
+    /**
+     * Stacks the given matrices horizontally, i.e. {@code [A1, A2, ...]}.
+     * <p>
+     * The column index, row index, and data of the result are allocated exactly once and filled directly from the
+     * given matrices.
+     *
+     * @param matrices matrices with equal number of rows
+     * @return the horizontally stacked matrix
+     */
+    public static Matrix hstack(@NonNull Matrix @NonNull ... matrices) {
+        checkArgument(matrices.length > 0, "at least one matrix must be supplied");
+        val m = matrices[0].m;
+        checkArgument(Arrays.stream(matrices).allMatch(a -> a.m == m), "number of rows of all matrices must be equal");
+
+        var n = 0;
+        var nnz = 0;
+        for (val a : matrices) {
+            n = addExact(n, a.n);
+            nnz = addExact(nnz, a.nzVal.length);
+        }
+
+        val colPtr = new long[n + 1];
+        val rowVal = new long[nnz];
+        val nzVal = new double[nnz];
+        var colOffset = 0;
+        var nnzOffset = 0;
+        for (val a : matrices) {
+            val aNnz = a.nzVal.length;
+            for (var j = 1; j <= a.n; j++) {
+                colPtr[colOffset + j] = a.colPtr[j] + nnzOffset;
+            }
+            System.arraycopy(a.rowVal, 0, rowVal, nnzOffset, aNnz);
+            System.arraycopy(a.nzVal, 0, nzVal, nnzOffset, aNnz);
+            colOffset += a.n;
+            nnzOffset += aNnz;
+        }
+
+        return new Matrix(m, n, colPtr, rowVal, nzVal);
+    }
+
+    /**
+     * Creates the block diagonal matrix with the given matrices on its diagonal, i.e.
+     * {@code [A1, 0, ...; 0, A2, ...; ...]}.
+     * <p>
+     * The column index, row index, and data of the result are allocated exactly once and filled directly from the
+     * given matrices.
+     *
+     * @param matrices matrices on the diagonal
+     * @return the block diagonal matrix
+     */
+    public static Matrix blockDiag(@NonNull Matrix @NonNull ... matrices) {
+        checkArgument(matrices.length > 0, "at least one matrix must be supplied");
+
+        var m = 0;
+        var n = 0;
+        var nnz = 0;
+        for (val a : matrices) {
+            m = addExact(m, a.m);
+            n = addExact(n, a.n);
+            nnz = addExact(nnz, a.nzVal.length);
+        }
+
+        val colPtr = new long[n + 1];
+        val rowVal = new long[nnz];
+        val nzVal = new double[nnz];
+        var rowOffset = 0L;
+        var colOffset = 0;
+        var nnzOffset = 0;
+        for (val a : matrices) {
+            val aNnz = a.nzVal.length;
+            for (var j = 1; j <= a.n; j++) {
+                colPtr[colOffset + j] = a.colPtr[j] + nnzOffset;
+            }
+            for (var i = 0; i < aNnz; i++) {
+                rowVal[nnzOffset + i] = a.rowVal[i] + rowOffset;
+            }
+            System.arraycopy(a.nzVal, 0, nzVal, nnzOffset, aNnz);
+            rowOffset += a.m;
+            colOffset += a.n;
+            nnzOffset += aNnz;
+        }
+
+        return new Matrix(m, n, colPtr, rowVal, nzVal);
+    }
+
+    private static void countDenseRow(double[] a, int offset, int n, double dropTolerance, long[] counts) {
+        // Branch-free such that the loop can be vectorized by the JIT compiler. NaN entries are kept.
+        for (var j = 0; j < n; j++) {
+            counts[j + 1] += Math.abs(a[offset + j]) <= dropTolerance ? 0 : 1;
+        }
+    }
+
+    private static void fillDenseRow(double[] a, int offset, int n, int i, double dropTolerance, int[] next,
+                                     long[] rowVal, double[] nzVal) {
+        for (var j = 0; j < n; j++) {
+            val v = a[offset + j];
+            if (!(Math.abs(v) <= dropTolerance)) {
+                val k = next[j]++;
+                rowVal[k] = i;
+                nzVal[k] = v;
+            }
+        }
+    }
+
+    /**
+     * Turns the counts per column {@code counts[j + 1]} into the column index in place.
+     *
+     * @return the start of each column, which serves as insert position while filling the columns
+     */
+    private static int[] prefixSum(long[] counts) {
+        val n = counts.length - 1;
+        val next = new int[n];
+        for (var j = 0; j < n; j++) {
+            next[j] = toIntExact(counts[j]);
+            counts[j + 1] += counts[j];
+        }
+
+        return next;
+    }
+
+    /**
+     * Splits the columns into contiguous blocks of roughly equal number of non-zero entries for parallel processing.
+     *
+     * @return column boundaries of the blocks, i.e. block {@code b} consists of the columns {@code blocks[b]}
+     * (inclusive) to {@code blocks[b + 1]} (exclusive)
+     */
+    private int[] columnBlocks() {
+        val nnz = nzVal.length;
+        val nBlocks = Math.min(numberOfBlocks(), n);
+        val blocks = new int[nBlocks + 1];
+        for (var b = 1; b < nBlocks; b++) {
+            val target = (long) nnz * b / nBlocks;
+            var j = Arrays.binarySearch(colPtr, blocks[b - 1], n, target);
+            if (j < 0) {
+                j = -j - 1;
+            }
+            blocks[b] = Math.max(j, blocks[b - 1]);
+        }
+        blocks[nBlocks] = n;
+
+        return blocks;
+    }
+
+    /**
+     * @return number of blocks for parallel processing, such that each block has at least {@code MIN_BLOCK_NNZ}
+     * non-zero entries on average
+     */
+    private int numberOfBlocks() {
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), nzVal.length / MIN_BLOCK_NNZ));
+    }
+
 }
@@ -6,8 +6,13 @@ import lombok.val;
 
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
@@ -24,12 +29,37 @@ public class Model implements AutoCloseable {
 
     private enum Stage {NEW, SETUP, OPTIMIZED}
 
+    private static final double MIN_TIME_LIMIT = 1e-9;
+
     private final Arena arena;
     private final boolean closeArena;
     private Stage stage = Stage.NEW;
     private Parameters parameters;
     private Output output;
+    private boolean coneMerging;
+    private boolean rowGrouping;
+    private RowGrouping rowPermutation;
+    private long[] coneOffsets;
+    private RetryPolicy retryPolicy;
+    private long structure;
+    private int retryLevel;
+    private int retries;
+    private AutoTuner autoTuner;
+    private AutoTuner.Candidate candidate;
+    private Double screeningTolerance;
+    private Clock clock = Clock.systemUTC();
+    private Instant deadline;
+    private boolean deadlineLimited;
+    // Keeps the sparsity patterns and cone layouts, whose native memory the model data references, reachable
+    private final List<Object> sharedOwners = new ArrayList<>();
+    private MemorySegment pSeg;
+    private MemorySegment qSeg;
+    private MemorySegment aSeg;
+    private MemorySegment bSeg;
+    private MemorySegment conesSeg;
+    private Arena solverArena;
     private MemorySegment solverSeg;
+    private LogStream logStream;
     private MemorySegment solutionSeg;
     private MemorySegment infoSeg;
 
@@ -66,6 +96,31 @@ public class Model implements AutoCloseable {
         this.parameters = parameters;
     }
 
+    /**
+     * Rebuilds the <a href="https://clarabel.org">Clarabel</a> solver of this set up {@link Model} with new settings,
+     * e.g. to tighten the tolerances, to raise the iteration limit, or to shorten the time limit.
+     * <p>
+     * The Clarabel solver cannot change the settings of an existing solver, hence the solver is freed and created
+     * again from the model data, including the equilibration and the factorization of the KKT system. Compared to
+     * {@link #cleanup()} and a new setup, it only saves copying and validating the model data, which is kept in native
+     * memory since set up. The solution of a previous optimization is discarded, and the next optimization starts from
+     * scratch, i.e. it is not warm-started.
+     *
+     * @param parameters parameter object for the solver settings
+     */
+    public void rebuild(@NonNull Parameters parameters) {
+        checkState(stage != Stage.NEW, "model must not be in stage new");
+
+        this.parameters = parameters;
+        retryLevel = 0;
+        freeSolver();
+        if (deadline == null) {
+            createSolver();
+        }
+
+        stage = Stage.SETUP;
+    }
+
     /**
      * Sets the output type.
      * If not called, then the output goes to standard out.
@@ -78,6 +133,133 @@ public class Model implements AutoCloseable {
         this.output = output;
     }
 
+    /**
+     * Enables or disables the merging of adjacent cones.
+     * <p>
+     * If enabled, then runs of adjacent Zero cones and runs of adjacent Nonnegative cones are merged into a single cone
+     * each before the cones are passed to the solver, which reduces the number of cones and the per-cone overhead in
+     * the solver. The row order of A and b is not changed, hence the solution is not affected. If not called, then
+     * cones are passed to the solver as supplied.
+     *
+     * @param coneMerging {@code true} to merge adjacent cones
+     */
+    public void setConeMerging(boolean coneMerging) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+
+        this.coneMerging = coneMerging;
+    }
+
+    /**
+     * Enables or disables the grouping of rows by cone type.
+     * <p>
+     * If enabled, then the rows of A and b are permuted such that all Zero cones are contiguous and merged into a
+     * single cone, followed by all Nonnegative cones merged into a single cone, followed by all other cones in their
+     * original order. The slack and dual variables are permuted back transparently, i.e. {@link #s()} and {@link #z()}
+     * refer to the rows as supplied. If not called, then the rows are passed to the solver as supplied.
+     *
+     * @param rowGrouping {@code true} to group rows by cone type
+     */
+    public void setRowGrouping(boolean rowGrouping) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+
+        this.rowGrouping = rowGrouping;
+    }
+
+    /**
+     * Sets the retry policy.
+     * <p>
+     * If set, then this {@link Model} is optimized again with the escalating settings profiles of the policy as long
+     * as the solver runs into numerical trouble. If not called, then this {@link Model} is optimized once.
+     *
+     * @param retryPolicy the retry policy
+     * @see RetryPolicy
+     */
+    public void setRetryPolicy(@NonNull RetryPolicy retryPolicy) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Sets the auto-tuner.
+     * <p>
+     * If set, then the direct solve method and the maximum number of threads, which the auto-tuner recorded for the
+     * nearest problem structure, are applied at setup, unless the parameters set them explicitly. If not called, then
+     * the parameters or the solver defaults are applied.
+     *
+     * @param autoTuner the auto-tuner
+     * @see AutoTuner
+     */
+    public void setAutoTuner(@NonNull AutoTuner autoTuner) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+
+        this.autoTuner = autoTuner;
+    }
+
+    /**
+     * Sets a screening tolerance.
+     * <p>
+     * If set, then this {@link Model} is set up with the absolute and relative duality gap tolerances and the
+     * feasibility tolerance relaxed to {@code screeningTolerance}, such that {@link #optimize()} returns a coarse
+     * solution after fewer iterations, e.g. to screen many candidate problems. A tolerance of the parameters which is
+     * already looser than {@code screeningTolerance} is kept, i.e. each tolerance is the maximum of both. The Clarabel
+     * solver cannot be warm started, hence an accurate solution of a screened problem requires a new {@link Model}
+     * without screening tolerance. If not called, then this {@link Model} is optimized with the tolerances of the
+     * parameters only.
+     *
+     * @param screeningTolerance relaxed tolerance, e.g. {@code 1e-4}
+     */
+    public void setScreeningTolerance(double screeningTolerance) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+        checkArgument(screeningTolerance > 0., "screening tolerance must be positive");
+
+        this.screeningTolerance = screeningTolerance;
+    }
+
+    /**
+     * Sets the deadline.
+     * <p>
+     * If set, then the solver is created when this {@link Model} is optimized instead of when it is set up, and its
+     * time limit is reduced to the time remaining until the deadline at that point, i.e. the time spent until
+     * {@link #optimize()}, e.g. queueing or between setup and optimization, is subtracted from the budget. Each
+     * optimization recreates the solver with the time then remaining. If the deadline has passed, then the solver stops
+     * at its first check of the time limit. If not called, then the time limit of the parameters is applied.
+     * <p>
+     * The deadline covers the time until the solver is created and the iterations of the solver. The time spent
+     * creating the solver, i.e. the equilibration of the data and the setup of the KKT system, is not charged against
+     * the deadline, hence large models may overrun it by this time and should leave a margin.
+     *
+     * @param deadline the deadline
+     * @see #isDeadlineExceeded()
+     */
+    public void setDeadline(@NonNull Instant deadline) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+
+        this.deadline = deadline;
+    }
+
+    /**
+     * Sets the deadline to the given budget from now.
+     *
+     * @param budget the time budget
+     * @see #setDeadline(Instant)
+     */
+    public void setDeadline(@NonNull Duration budget) {
+        setDeadline(clock.instant().plus(budget));
+    }
+
+    void setClock(Clock clock) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+
+        this.clock = clock;
+    }
+
+    void setCandidate(AutoTuner.Candidate candidate) {
+        checkState(stage == Stage.NEW, "model must be in stage new");
+
+        this.candidate = candidate;
+    }
+
     /**
      * Set up this {@link Model} data for a convex optimization problem of type
      * <pre>
@@ -87,7 +269,9 @@ public class Model implements AutoCloseable {
      * </pre>
      * where x are the primal variables, s are slack variables, and P, q, A, and b are the model data. The convex set
      * K is a composition of convex cones. Supported cones are the Zero cone, the Nonnegative Orthant, the
-     * Second-Order Cone, the Exponential Cone, the Power Cone, and the Generalized Power Cone.
+     * Second-Order Cone, the Exponential Cone, the Power Cone, and the Generalized Power Cone. Many consecutive copies
+     * of the same cone can be given compactly as a {@link ConeBlock}, and cones which are set up repeatedly can be
+     * shared as a {@link ConeLayout}.
      *
      * @param p     (optional) cost function matrix P. P is assumed to be positive semi-definite and only values in
      *              the upper triangular part of P need to be supplied.
@@ -215,25 +399,70 @@ public class Model implements AutoCloseable {
     public void unsafeSetup(Matrix p, double[] q, Matrix a, double[] b, List<@NonNull Cone> cones) {
         checkState(stage == Stage.NEW, "model must be in stage new");
 
-        val pSeg = p != null ? createMatrixSegment(p) : createNullMatrixSegment(a.n(), a.n());
-        val qSeg = q != null ? createArraySegment(q) : createNullArraySegment(p != null ? p.n() : a.n());
-        val aSeg = a != null ? createMatrixSegment(a) : createNullMatrixSegment(0, p.n());
-        val bSeg = b != null ? createArraySegment(b) : createNullArraySegment(0);
-        val nCones = cones != null ? cones.size() : 0;
-        val conesSeg = cones != null ? createConesSegment(cones) : createNullConesSegment();
-        val settingsSeg = createSettingsSegment();
+        sharedOwners.clear();
+        pSeg = p != null ? createMatrixSegment(p) : createNullMatrixSegment(a.n(), a.n());
+        qSeg = q != null ? createArraySegment(q) : createNullArraySegment(p != null ? p.n() : a.n());
+        coneOffsets = createConeOffsets(cones);
+        candidate = autoTuner != null ? autoTuner.candidate(AutoTuner.Features.of(p, a)) : candidate;
+        structure = retryPolicy != null ? RetryPolicy.structure(p, a, cones) : 0L;
+        retryLevel = retryPolicy != null ? retryPolicy.startLevel(structure) : 0;
+        val grouping = cones != null && rowGrouping ? RowGrouping.of(cones) : null;
+        rowPermutation = grouping != null && !grouping.isIdentity() ? grouping : null;
+        aSeg = a != null ? createMatrixSegment(rowPermutation != null ? rowPermutation.permute(a) : a)
+                : createNullMatrixSegment(0, p.n());
+        bSeg = b != null ? createArraySegment(rowPermutation != null ? rowPermutation.permute(b) : b)
+                : createNullArraySegment(0);
+        val groupedCones = grouping != null ? grouping.cones() : cones;
+        val solverCones = groupedCones != null && coneMerging ? ConeMerger.merge(groupedCones) : groupedCones;
+        conesSeg = solverCones != null ? createConesSegment(solverCones) : createNullConesSegment();
+
+        // With a deadline, the solver is created by optimize, such that its time limit is the time remaining then
+        if (deadline == null) {
+            createSolver();
+        }
 
-        solverSeg = clarabel_DefaultSolver_f64_new(pSeg, qSeg, aSeg, bSeg, nCones, conesSeg, settingsSeg);
+        stage = Stage.SETUP;
+    }
 
-        setOutput();
+    private void createSolver() {
+        // Memory which refers to the solver, e.g. the solution, lives until the solver is freed. It is confined like
+        // the model data, unless the arena of the model data is supplied by the caller.
+        solverArena = closeArena ? Arena.ofConfined() : Arena.ofShared();
+        try {
+            val nCones = conesSeg.byteSize() / ClarabelSupportedConeT_f64.sizeof();
+            val settingsSeg = createSettingsSegment();
 
-        stage = Stage.SETUP;
+            solverSeg = clarabel_DefaultSolver_f64_new(pSeg, qSeg, aSeg, bSeg, nCones, conesSeg, settingsSeg);
+
+            setOutput();
+        } catch (RuntimeException | Error e) {
+            try {
+                freeSolver();
+            } catch (RuntimeException | Error suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private static long[] createConeOffsets(List<Cone> cones) {
+        val nCones = cones != null ? cones.size() : 0;
+        val offsets = new long[nCones + 1];
+        for (var i = 0; i < nCones; i++) {
+            offsets[i + 1] = offsets[i] + cones.get(i).getDimension();
+        }
+
+        return offsets;
     }
 
     private MemorySegment createMatrixSegment(Matrix matrix) {
         val matrixSeg = ClarabelCscMatrix_f64.allocate(arena);
-        val colPtrSeg = arena.allocateFrom(C_LONG_LONG, matrix.colPtr());
-        val rowValSeg = arena.allocateFrom(C_LONG_LONG, matrix.rowVal());
+        val pattern = SparsityPattern.lookup(matrix);
+        if (pattern != null) {
+            sharedOwners.add(pattern);
+        }
+        val colPtrSeg = pattern != null ? pattern.colPtrSegment() : arena.allocateFrom(C_LONG_LONG, matrix.colPtr());
+        val rowValSeg = pattern != null ? pattern.rowValSegment() : arena.allocateFrom(C_LONG_LONG, matrix.rowVal());
         val nzValSeg = arena.allocateFrom(C_DOUBLE, matrix.nzVal());
         clarabel_CscMatrix_f64_init(matrixSeg, matrix.m(), matrix.n(), colPtrSeg, rowValSeg, nzValSeg);
 
@@ -258,123 +487,100 @@ public class Model implements AutoCloseable {
     }
 
     private MemorySegment createConesSegment(List<Cone> cones) {
-        val conesSeg = ClarabelSupportedConeT_f64.allocateArray(cones.size(), arena);
-
-        for (int i = 0; i < cones.size(); i++) {
-            val coneSeg = ClarabelSupportedConeT_f64.asSlice(conesSeg, i);
-            val cone = cones.get(i);
-
-            switch (cone) {
-                case ZeroCone zeroCone -> ClarabelSupportedConeT_f64.zero_cone_t(coneSeg, zeroCone.getN());
-                case NonnegativeCone nonnegativeCone ->
-                        ClarabelSupportedConeT_f64.nonnegative_cone_t(coneSeg, nonnegativeCone.getN());
-                case SecondOrderCone secondOrderCone ->
-                        ClarabelSupportedConeT_f64.second_order_cone_t(coneSeg, secondOrderCone.getN());
-                case ExponentialCone _ -> {
-                }
-                case PowerCone powerCone -> ClarabelSupportedConeT_f64.power_cone_t(coneSeg, powerCone.getA());
-                case GenPowerCone genPowerCone -> {
-                    val alphaSeg = arena.allocateFrom(C_DOUBLE, genPowerCone.getA());
-                    ClarabelSupportedConeT_f64.genpow_cone_alpha_t(coneSeg, alphaSeg);
-                    ClarabelSupportedConeT_f64.genpow_cone_dim1_t(coneSeg, genPowerCone.getA().length);
-                    ClarabelSupportedConeT_f64.genpow_cone_dim2_t(coneSeg, genPowerCone.getN());
-                }
-            }
+        val layout = ConeLayout.lookup(cones);
+        if (layout == null) {
+            return createConesSegment(cones, arena);
+        }
+
+        sharedOwners.add(layout);
+        return layout.conesSegment();
+    }
+
+    static MemorySegment createConesSegment(List<Cone> cones, SegmentAllocator allocator) {
+        val nCones = cones.stream().mapToLong(Cone::getCount).sum();
+        val conesSeg = ClarabelSupportedConeT_f64.allocateArray(nCones, allocator);
 
-            ClarabelSupportedConeT_f64.tag(coneSeg, cone.getTag());
+        var index = 0L;
+        for (val cone : cones) {
+            setCone(conesSeg, index, cone, allocator);
+            index += cone.getCount();
         }
 
         return conesSeg;
     }
 
+    private static void setCone(MemorySegment conesSeg, long index, Cone cone, SegmentAllocator allocator) {
+        val coneSeg = ClarabelSupportedConeT_f64.asSlice(conesSeg, index);
+
+        switch (cone) {
+            case ZeroCone zeroCone -> ClarabelSupportedConeT_f64.zero_cone_t(coneSeg, zeroCone.getN());
+            case NonnegativeCone nonnegativeCone ->
+                    ClarabelSupportedConeT_f64.nonnegative_cone_t(coneSeg, nonnegativeCone.getN());
+            case SecondOrderCone secondOrderCone ->
+                    ClarabelSupportedConeT_f64.second_order_cone_t(coneSeg, secondOrderCone.getN());
+            case ExponentialCone _ -> {
+            }
+            case PowerCone powerCone -> ClarabelSupportedConeT_f64.power_cone_t(coneSeg, powerCone.getA());
+            case GenPowerCone genPowerCone -> {
+                val alphaSeg = allocator.allocateFrom(C_DOUBLE, genPowerCone.getA());
+                ClarabelSupportedConeT_f64.genpow_cone_alpha_t(coneSeg, alphaSeg);
+                ClarabelSupportedConeT_f64.genpow_cone_dim1_t(coneSeg, genPowerCone.getA().length);
+                ClarabelSupportedConeT_f64.genpow_cone_dim2_t(coneSeg, genPowerCone.getN());
+            }
+            case ConeBlock coneBlock -> {
+                setCone(conesSeg, index, coneBlock.getCone(), allocator);
+                replicateCone(conesSeg, index, coneBlock.getCount());
+            }
+        }
+
+        ClarabelSupportedConeT_f64.tag(coneSeg, cone.getTag());
+    }
+
+    private static void replicateCone(MemorySegment conesSeg, long index, long count) {
+        // Doubles the number of copies with each bulk copy, the alpha of a generalized power cone is shared
+        val size = ClarabelSupportedConeT_f64.sizeof();
+        for (var copies = 1L; copies < count; copies *= 2) {
+            val length = Math.min(copies, count - copies);
+            MemorySegment.copy(conesSeg, index * size, conesSeg, (index + copies) * size, length * size);
+        }
+    }
+
     private MemorySegment createNullConesSegment() {
         return ClarabelSupportedConeT_f64.allocateArray(0, arena);
     }
 
     private MemorySegment createSettingsSegment() {
-        val settingsSeg = clarabel_DefaultSettings_f64_default(arena);
-
-        if (parameters != null) {
-            Optional.ofNullable(parameters.maxIter())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.max_iter(settingsSeg, p));
-            Optional.ofNullable(parameters.timeLimit())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.time_limit(settingsSeg, p));
-            Optional.ofNullable(parameters.verbose())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.verbose(settingsSeg, p));
-            Optional.ofNullable(parameters.maxStepFraction())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.max_step_fraction(settingsSeg, p));
-            Optional.ofNullable(parameters.tolGapAbs())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_gap_abs(settingsSeg, p));
-            Optional.ofNullable(parameters.tolGapRel())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_gap_rel(settingsSeg, p));
-            Optional.ofNullable(parameters.tolFeas())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_feas(settingsSeg, p));
-            Optional.ofNullable(parameters.tolInfeasAbs())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_infeas_abs(settingsSeg, p));
-            Optional.ofNullable(parameters.tolInfeasRel())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_infeas_rel(settingsSeg, p));
-            Optional.ofNullable(parameters.tolKtratio())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_ktratio(settingsSeg, p));
-            Optional.ofNullable(parameters.reducedTolGapAbs())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_gap_abs(settingsSeg, p));
-            Optional.ofNullable(parameters.reducedTolGapRel())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_gap_rel(settingsSeg, p));
-            Optional.ofNullable(parameters.reducedTolFeas())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_feas(settingsSeg, p));
-            Optional.ofNullable(parameters.reducedTolInfeasAbs())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_infeas_abs(settingsSeg, p));
-            Optional.ofNullable(parameters.reducedTolInfeasRel())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_infeas_rel(settingsSeg, p));
-            Optional.ofNullable(parameters.reducedTolKtratio())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_ktratio(settingsSeg, p));
-            Optional.ofNullable(parameters.equilibrateEnable())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_enable(settingsSeg, p));
-            Optional.ofNullable(parameters.equilibrateMaxIter())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_max_iter(settingsSeg, p));
-            Optional.ofNullable(parameters.equilibrateMinScaling())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_min_scaling(settingsSeg, p));
-            Optional.ofNullable(parameters.equilibrateMaxScaling())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_max_scaling(settingsSeg, p));
-            Optional.ofNullable(parameters.linesearchBacktrackStep())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.linesearch_backtrack_step(settingsSeg, p));
-            Optional.ofNullable(parameters.minSwitchStepLength())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.min_switch_step_length(settingsSeg, p));
-            Optional.ofNullable(parameters.minTerminateStepLength())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.min_terminate_step_length(settingsSeg, p));
-            Optional.ofNullable(parameters.maxThreads())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.max_threads(settingsSeg, p));
-            Optional.ofNullable(parameters.directKktSolver())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.direct_kkt_solver(settingsSeg, p));
-            Optional.ofNullable(parameters.directSolveMethod())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.direct_solve_method(settingsSeg, p.method()));
-            Optional.ofNullable(parameters.staticRegularizationEnable())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.static_regularization_enable(settingsSeg, p));
-            Optional.ofNullable(parameters.staticRegularizationConstant())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.static_regularization_constant(settingsSeg, p));
-            Optional.ofNullable(parameters.staticRegularizationProportional())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.static_regularization_proportional(settingsSeg, p));
-            Optional.ofNullable(parameters.dynamicRegularizationEnable())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.dynamic_regularization_enable(settingsSeg, p));
-            Optional.ofNullable(parameters.dynamicRegularizationEps())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.dynamic_regularization_eps(settingsSeg, p));
-            Optional.ofNullable(parameters.dynamicRegularizationDelta())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.dynamic_regularization_delta(settingsSeg, p));
-            Optional.ofNullable(parameters.iterativeRefinementEnable())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_enable(settingsSeg, p));
-            Optional.ofNullable(parameters.iterativeRefinementReltol())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_reltol(settingsSeg, p));
-            Optional.ofNullable(parameters.iterativeRefinementAbstol())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_abstol(settingsSeg, p));
-            Optional.ofNullable(parameters.iterativeRefinementMaxIter())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_max_iter(settingsSeg, p));
-            Optional.ofNullable(parameters.iterativeRefinementStopRatio())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_stop_ratio(settingsSeg, p));
-            Optional.ofNullable(parameters.presolveEnable())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.presolve_enable(settingsSeg, p));
-            Optional.ofNullable(parameters.pardisoIparm())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.pardiso_iparm(settingsSeg, arena.allocateFrom(C_INT, p)));
-            Optional.ofNullable(parameters.pardisoVerbose())
-                    .ifPresent(p -> ClarabelDefaultSettings_f64.pardiso_verbose(settingsSeg, p));
+        val solverParameters = retryPolicy != null ? retryPolicy.parameters(retryLevel, parameters) : parameters;
+        val settingsSeg = ClarabelDefaultSettings_f64.allocate(solverArena)
+                .copyFrom(SettingsTemplate.of(solverParameters));
+
+        if (candidate != null) {
+            if (solverParameters == null || solverParameters.directSolveMethod() == null) {
+                ClarabelDefaultSettings_f64.direct_solve_method(settingsSeg, candidate.method().method());
+            }
+            if (solverParameters == null || solverParameters.maxThreads() == null) {
+                ClarabelDefaultSettings_f64.max_threads(settingsSeg, candidate.threads());
+            }
+        }
+
+        if (screeningTolerance != null) {
+            ClarabelDefaultSettings_f64.tol_gap_abs(settingsSeg,
+                    Math.max(ClarabelDefaultSettings_f64.tol_gap_abs(settingsSeg), screeningTolerance));
+            ClarabelDefaultSettings_f64.tol_gap_rel(settingsSeg,
+                    Math.max(ClarabelDefaultSettings_f64.tol_gap_rel(settingsSeg), screeningTolerance));
+            ClarabelDefaultSettings_f64.tol_feas(settingsSeg,
+                    Math.max(ClarabelDefaultSettings_f64.tol_feas(settingsSeg), screeningTolerance));
+        }
+
+        deadlineLimited = false;
+        if (deadline != null) {
+            // Seconds and nanos instead of Duration#toNanos, which overflows for deadlines beyond about 292 years
+            val untilDeadline = Duration.between(clock.instant(), deadline);
+            val remaining = untilDeadline.getSeconds() + untilDeadline.getNano() / 1e9;
+            deadlineLimited = remaining < ClarabelDefaultSettings_f64.time_limit(settingsSeg);
+            if (deadlineLimited) {
+                ClarabelDefaultSettings_f64.time_limit(settingsSeg, Math.max(remaining, MIN_TIME_LIMIT));
+            }
         }
 
         return settingsSeg;
@@ -386,11 +592,46 @@ public class Model implements AutoCloseable {
                 case StdOutOutput _ -> clarabel_DefaultSolver_f64_print_to_stdout(solverSeg);
                 case StringOutput _ -> clarabel_DefaultSolver_f64_print_to_buffer(solverSeg);
                 case FileOutput fileOutput ->
-                        clarabel_DefaultSolver_f64_print_to_file(solverSeg, arena.allocateFrom(fileOutput.getName()));
+                        clarabel_DefaultSolver_f64_print_to_file(solverSeg,
+                                solverArena.allocateFrom(fileOutput.getName()));
+                case StreamOutput streamOutput -> setStreamOutput(streamOutput.getConsumer());
+                case LoggerOutput loggerOutput -> setStreamOutput(loggerOutput.consumer(AsyncLog.INSTANCE));
+                case RollingFileOutput rollingFileOutput -> setStreamOutput(rollingFileOutput.consumer());
             }
         }
     }
 
+    private void setStreamOutput(Consumer<String> consumer) {
+        logStream = LogStream.open(consumer);
+        clarabel_DefaultSolver_f64_print_to_file(solverSeg, solverArena.allocateFrom(logStream.path()));
+    }
+
+    /**
+     * Frees the solver, if any, where the solution is discarded. The solver is released before the log stream is
+     * closed, which rethrows an exception of the stream consumer, such that the solver is never freed twice.
+     */
+    private void freeSolver() {
+        if (solverSeg != null) {
+            clarabel_DefaultSolver_f64_free(solverSeg);
+            solverSeg = null;
+        }
+        if (solverArena != null) {
+            solverArena.close();
+            solverArena = null;
+        }
+        solutionSeg = null;
+        infoSeg = null;
+        if (stage == Stage.OPTIMIZED) {
+            stage = Stage.SETUP;
+        }
+
+        if (logStream != null) {
+            val stream = logStream;
+            logStream = null;
+            stream.close();
+        }
+    }
+
     /**
      * Optimizes this {@link Model} with the <a href="https://clarabel.org">Clarabel</a> solver.
      *
@@ -399,10 +640,37 @@ public class Model implements AutoCloseable {
     public Status optimize() {
         checkState(stage != Stage.NEW, "model must not be in stage new");
 
+        if (deadline != null) {
+            freeSolver();
+        }
+        // The solver is missing with a deadline or if recreating it failed
+        if (solverSeg == null) {
+            createSolver();
+        }
+        var status = solve();
+        retries = 0;
+        if (retryPolicy != null) {
+            while (retryPolicy.isRetry(status) && retryLevel + 1 < retryPolicy.levels()) {
+                retryLevel++;
+                retries++;
+                freeSolver();
+                createSolver();
+                status = solve();
+            }
+            if (!retryPolicy.isRetry(status)) {
+                retryPolicy.recordSuccess(structure, retryLevel);
+            }
+        }
+
+        return status;
+    }
+
+    private Status solve() {
         clarabel_DefaultSolver_f64_solve(solverSeg);
-        solutionSeg = ClarabelDefaultSolution_f64.reinterpret(clarabel_DefaultSolver_f64_solution(arena, solverSeg),
-                arena, null);
-        infoSeg = ClarabelDefaultInfo_f64.reinterpret(clarabel_DefaultSolver_f64_info(arena, solverSeg), arena, null);
+        solutionSeg = ClarabelDefaultSolution_f64.reinterpret(clarabel_DefaultSolver_f64_solution(solverArena,
+                solverSeg), solverArena, null);
+        infoSeg = ClarabelDefaultInfo_f64.reinterpret(clarabel_DefaultSolver_f64_info(solverArena, solverSeg),
+                solverArena, null);
 
         val status = Status.valueOf(ClarabelDefaultSolution_f64.status(solutionSeg));
         stage = Stage.OPTIMIZED;
@@ -415,8 +683,13 @@ public class Model implements AutoCloseable {
      */
     public void cleanup() {
         checkState(stage != Stage.NEW, "model must not be in stage new");
-        clarabel_DefaultSolver_f64_free(solverSeg);
-        stage = Stage.NEW;
+
+        try {
+            freeSolver();
+        } finally {
+            sharedOwners.clear();
+            stage = Stage.NEW;
+        }
     }
 
     /**
@@ -427,7 +700,7 @@ public class Model implements AutoCloseable {
         checkStageIsOptimized();
         val xLength = ClarabelDefaultSolution_f64.x_length(solutionSeg);
         return ClarabelDefaultSolution_f64.x(solutionSeg)
-                .reinterpret(C_DOUBLE.byteSize() * xLength, arena, null)
+                .reinterpret(C_DOUBLE.byteSize() * xLength, solverArena, null)
                 .toArray(C_DOUBLE);
     }
 
@@ -438,9 +711,10 @@ public class Model implements AutoCloseable {
     public double @NonNull [] z() {
         checkStageIsOptimized();
         val zLength = ClarabelDefaultSolution_f64.z_length(solutionSeg);
-        return ClarabelDefaultSolution_f64.z(solutionSeg)
-                .reinterpret(C_DOUBLE.byteSize() * zLength, arena, null)
+        val z = ClarabelDefaultSolution_f64.z(solutionSeg)
+                .reinterpret(C_DOUBLE.byteSize() * zLength, solverArena, null)
                 .toArray(C_DOUBLE);
+        return rowPermutation != null ? rowPermutation.unpermute(z) : z;
     }
 
     /**
@@ -450,9 +724,98 @@ public class Model implements AutoCloseable {
     public double @NonNull [] s() {
         checkStageIsOptimized();
         val sLength = ClarabelDefaultSolution_f64.s_length(solutionSeg);
-        return ClarabelDefaultSolution_f64.s(solutionSeg)
-                .reinterpret(C_DOUBLE.byteSize() * sLength, arena, null)
+        val s = ClarabelDefaultSolution_f64.s(solutionSeg)
+                .reinterpret(C_DOUBLE.byteSize() * sLength, solverArena, null)
                 .toArray(C_DOUBLE);
+        return rowPermutation != null ? rowPermutation.unpermute(s) : s;
+    }
+
+    /**
+     * @param cone index of the cone in the list of cones, or the number of cones
+     * @return index of the first row of the cone in the cone constraints of this set up {@link Model}, or the number
+     * of rows if {@code cone} is the number of cones
+     */
+    public long coneOffset(int cone) {
+        checkState(stage != Stage.NEW, "model must not be in stage new");
+        checkArgument(0 <= cone && cone < coneOffsets.length, "cone must be within the cones");
+
+        return coneOffsets[cone];
+    }
+
+    /**
+     * @param cone index of the cone in the list of cones
+     * @return read-only slice of the dual variables of the cone of this optimized {@link Model} without copying,
+     * which is valid until the solver is recreated or freed, e.g. by {@link #rebuild(Parameters)} or
+     * {@link #cleanup()}
+     */
+    public MemorySegment zSlice(int cone) {
+        return zSlice(cone, cone + 1);
+    }
+
+    /**
+     * @param fromCone index of the first cone in the list of cones (inclusive)
+     * @param toCone   index of the last cone in the list of cones (exclusive)
+     * @return read-only slice of the dual variables of the range of cones of this optimized {@link Model} without
+     * copying, which is valid until the solver is recreated or freed, e.g. by {@link #rebuild(Parameters)} or
+     * {@link #cleanup()}
+     */
+    public MemorySegment zSlice(int fromCone, int toCone) {
+        checkSliceArguments(fromCone, toCone);
+        return slice(ClarabelDefaultSolution_f64.z(solutionSeg), fromCone, toCone);
+    }
+
+    /**
+     * @param cone index of the cone in the list of cones
+     * @return read-only slice of the slack variables of the cone of this optimized {@link Model} without copying,
+     * which is valid until the solver is recreated or freed, e.g. by {@link #rebuild(Parameters)} or
+     * {@link #cleanup()}
+     */
+    public MemorySegment sSlice(int cone) {
+        return sSlice(cone, cone + 1);
+    }
+
+    /**
+     * @param fromCone index of the first cone in the list of cones (inclusive)
+     * @param toCone   index of the last cone in the list of cones (exclusive)
+     * @return read-only slice of the slack variables of the range of cones of this optimized {@link Model} without
+     * copying, which is valid until the solver is recreated or freed, e.g. by {@link #rebuild(Parameters)} or
+     * {@link #cleanup()}
+     */
+    public MemorySegment sSlice(int fromCone, int toCone) {
+        checkSliceArguments(fromCone, toCone);
+        return slice(ClarabelDefaultSolution_f64.s(solutionSeg), fromCone, toCone);
+    }
+
+    private void checkSliceArguments(int fromCone, int toCone) {
+        checkStageIsOptimized();
+        checkState(rowPermutation == null, "row grouping must be disabled");
+        checkArgument(0 <= fromCone && fromCone <= toCone && toCone < coneOffsets.length,
+                "range of cones must be within the cones");
+    }
+
+    private MemorySegment slice(MemorySegment address, int fromCone, int toCone) {
+        return address.reinterpret(C_DOUBLE.byteSize() * coneOffsets[toCone], solverArena, null)
+                .asSlice(C_DOUBLE.byteSize() * coneOffsets[fromCone])
+                .asReadOnly();
+    }
+
+    /**
+     * @return number of times this {@link Model} was optimized again with the next profile of the retry policy
+     * @see RetryPolicy
+     */
+    public int retries() {
+        checkStageIsOptimized();
+        return retries;
+    }
+
+    /**
+     * @return {@code true} if this optimized {@link Model} stopped with status {@link Status#MAX_TIME} because the
+     * time remaining until the deadline was shorter than the time limit of the parameters
+     * @see #setDeadline(Instant)
+     */
+    public boolean isDeadlineExceeded() {
+        checkStageIsOptimized();
+        return deadlineLimited && Status.valueOf(ClarabelDefaultSolution_f64.status(solutionSeg)) == Status.MAX_TIME;
     }
 
     /**
@@ -565,11 +928,12 @@ public class Model implements AutoCloseable {
 
     @Override
     public void close() {
-        if (stage != Stage.NEW) {
-            clarabel_DefaultSolver_f64_free(solverSeg);
-        }
-        if (closeArena) {
-            arena.close();
+        try {
+            freeSolver();
+        } finally {
+            if (closeArena) {
+                arena.close();
+            }
         }
     }
 
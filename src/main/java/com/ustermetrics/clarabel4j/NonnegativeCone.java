@@ -4,6 +4,7 @@ import lombok.Getter;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.ClarabelNonnegativeConeT_Tag;
+import static java.lang.Math.max;
 
 /**
  * Nonnegative Orthant
@@ -33,4 +34,26 @@ public final class NonnegativeCone extends Cone {
         return n;
     }
 
+    @Override
+    double violation(double[] v, int offset) {
+        var violation = 0.;
+        for (var i = offset; i < offset + n; i++) {
+            violation = max(violation, -v[i]);
+        }
+
+        return violation;
+    }
+
+    @Override
+    double dualViolation(double[] v, int offset) {
+        return violation(v, offset);
+    }
+
+    @Override
+    void project(double[] v, int offset) {
+        for (var i = offset; i < offset + n; i++) {
+            v[i] = max(0., v[i]);
+        }
+    }
+
 }
@@ -3,5 +3,6 @@ package com.ustermetrics.clarabel4j;
 /**
  * Sealed interface for output types
  */
-public sealed interface Output permits StdOutOutput, StringOutput, FileOutput {
+public sealed interface Output
+        permits StdOutOutput, StringOutput, FileOutput, StreamOutput, LoggerOutput, RollingFileOutput {
 }
@@ -9,6 +9,9 @@ import static com.google.common.base.Preconditions.checkArgument;
  * A parameter object for <a href="https://clarabel.org">Clarabel</a> solver settings.
  * <p>
  * If {@link Model#setParameters(Parameters parameters)} is not called, then solver defaults are applied.
+ * <p>
+ * The native solver settings are compiled once per instance at the first setup and shared by all models, hence the
+ * Pardiso iparm settings must not be modified afterward.
  *
  * @param maxIter                          maximum number of iterations
  * @param timeLimit                        maximum run time (seconds)
@@ -1,18 +1,22 @@
 package com.ustermetrics.clarabel4j;
 
 import lombok.Getter;
+import lombok.val;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.ClarabelPowerConeT_Tag;
+import static java.lang.Math.*;
 
 /**
- * Power Cone
+ * Power Cone {@code K = {(x, y, z) | x^a y^(1 - a) >= |z|, x >= 0, y >= 0}}
  *
  * @see <a href="https://clarabel.org">Clarabel</a>
  */
 @Getter
 public final class PowerCone extends Cone {
 
+    private static final double TOLERANCE = 1e-12;
+
     private final double a;
 
     /**
@@ -33,4 +37,48 @@ public final class PowerCone extends Cone {
         return 3;
     }
 
+    @Override
+    double violation(double[] v, int offset) {
+        return violation(v[offset], v[offset + 1], v[offset + 2], 1., 1.);
+    }
+
+    @Override
+    double dualViolation(double[] v, int offset) {
+        // The dual cone is {(u, v, w) | (u / a)^a (v / (1 - a))^(1 - a) >= |w|, u >= 0, v >= 0}
+        return violation(v[offset], v[offset + 1], v[offset + 2], a, 1. - a);
+    }
+
+    @Override
+    void project(double[] v, int offset) {
+        // Projection of SCS, which applies Newton's method to the norm of the projection of z
+        val x = v[offset];
+        val y = v[offset + 1];
+        val r = abs(v[offset + 2]);
+
+        // v in K
+        if (x >= 0. && y >= 0. && TOLERANCE + pow(x, a) * pow(y, 1. - a) >= r) {
+            return;
+        }
+
+        // -v in the dual cone
+        if (x <= 0. && y <= 0. && TOLERANCE + pow(-x, a) * pow(-y, 1. - a) >= r * pow(a, a) * pow(1. - a, 1. - a)) {
+            v[offset] = v[offset + 1] = v[offset + 2] = 0.;
+            return;
+        }
+
+        val u = new double[]{x, y};
+        val alpha = new double[]{a, 1. - a};
+        val projection = new double[2];
+        val norm = GenPowerCone.project(u, alpha, r, projection);
+
+        v[offset] = projection[0];
+        v[offset + 1] = projection[1];
+        v[offset + 2] = v[offset + 2] < 0. ? -norm : norm;
+    }
+
+    private double violation(double x, double y, double z, double xScale, double yScale) {
+        val product = pow(max(0., x) / xScale, a) * pow(max(0., y) / yScale, 1. - a);
+        return max(max(-x, -y), max(0., abs(z) - product));
+    }
+
 }
@@ -0,0 +1,138 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.ustermetrics.clarabel4j.Status.SOLVED;
+
+/**
+ * A solver, which optimizes the same problem concurrently with several direct solve methods or numbers of threads
+ * and returns the first solved result.
+ * <p>
+ * Each candidate optimizes its own {@link Model} on its own thread. The structure of P and A and the native cone
+ * array are shared by all candidates, see {@link SparsityPattern} and {@link ConeLayout}, such that only the data of
+ * P, q, A, and b is copied per candidate.
+ * <p>
+ * The Clarabel solver cannot be interrupted, hence the candidates which lose the race run until they terminate on
+ * their own and their models are closed afterward. Set a time limit in the parameters to bound the resources used by
+ * the losers.
+ */
+public final class RacingSolver {
+
+    @Getter
+    private final List<AutoTuner.Candidate> candidates;
+    private final Executor executor;
+
+    /**
+     * Creates a new racing solver, which starts each candidate on a new daemon thread.
+     *
+     * @param candidates pairs of direct solve method and number of threads to race
+     */
+    public RacingSolver(@NonNull List<AutoTuner.@NonNull Candidate> candidates) {
+        this(candidates, task -> Thread.ofPlatform().daemon().start(task));
+    }
+
+    /**
+     * Creates a new racing solver.
+     *
+     * @param candidates pairs of direct solve method and number of threads to race
+     * @param executor   executor, which runs the candidates concurrently
+     */
+    public RacingSolver(@NonNull List<AutoTuner.@NonNull Candidate> candidates, @NonNull Executor executor) {
+        checkArgument(!candidates.isEmpty(), "candidates must not be empty");
+
+        this.candidates = List.copyOf(candidates);
+        this.executor = executor;
+    }
+
+    /**
+     * Optimizes the given problem concurrently with all candidates.
+     *
+     * @param parameters (optional) parameter object for the solver settings, which must not set the direct solve
+     *                   method or the maximum number of threads
+     * @param p          (optional) cost function matrix P
+     * @param q          (optional) cost function weights q
+     * @param a          (optional) cone constraints matrix A
+     * @param b          (optional) right-hand-side of the cone constraints
+     * @param cones      (optional) types and dimensions of the convex cones
+     * @param extractor  function, which extracts the result from an optimized model of a candidate
+     * @param <T>        type of the result
+     * @return the result of the first candidate with status {@link Status#SOLVED}, or the result of the first
+     * candidate if no candidate solved the problem
+     * @see Model#setup(Matrix, double[], Matrix, double[], List)
+     */
+    public <T> Result<T> solve(Parameters parameters, Matrix p, double[] q, Matrix a, double[] b,
+                               List<@NonNull Cone> cones, @NonNull Function<Model, T> extractor) {
+        checkArgument(parameters == null || parameters.directSolveMethod() == null && parameters.maxThreads() == null,
+                "parameters must not set the direct solve method or the maximum number of threads");
+
+        val pPattern = p != null ? SparsityPattern.of(p) : null;
+        val aPattern = a != null ? SparsityPattern.of(a) : null;
+        val layout = cones != null ? new ConeLayout(cones) : null;
+
+        val winner = new CompletableFuture<Result<T>>();
+        final List<CompletableFuture<Result<T>>> racers = candidates.stream()
+                .map(c -> CompletableFuture.supplyAsync(() -> {
+                    val sharedP = pPattern != null ? pPattern.withValues(p.nzVal()) : null;
+                    val sharedA = aPattern != null ? aPattern.withValues(a.nzVal()) : null;
+                    val sharedCones = layout != null ? layout.getCones() : null;
+                    return race(c, parameters, sharedP, q, sharedA, b, sharedCones, extractor);
+                }, executor).whenComplete((r, _) -> {
+                    if (r != null && r.status() == SOLVED) {
+                        winner.complete(r);
+                    }
+                }))
+                .toList();
+        CompletableFuture.allOf(racers.toArray(CompletableFuture[]::new)).whenComplete((_, _) -> racers.getFirst()
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        winner.completeExceptionally(e);
+                    } else {
+                        winner.complete(r);
+                    }
+                }));
+
+        try {
+            return winner.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <T> Result<T> race(AutoTuner.Candidate candidate, Parameters parameters, Matrix p, double[] q,
+                                      Matrix a, double[] b, List<Cone> cones, Function<Model, T> extractor) {
+        try (val model = new Model()) {
+            if (parameters != null) {
+                model.setParameters(parameters);
+            }
+            model.setCandidate(candidate);
+            model.setup(p, q, a, b, cones);
+            val status = model.optimize();
+
+            return new Result<>(candidate, status, extractor.apply(model));
+        }
+    }
+
+    /**
+     * The result of a candidate.
+     *
+     * @param candidate direct solve method and number of threads of the candidate
+     * @param status    solver status
+     * @param value     result extracted from the optimized model of the candidate
+     * @param <T>       type of the result
+     */
+    public record Result<T>(AutoTuner.Candidate candidate, Status status, T value) {
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.ustermetrics.clarabel4j;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.ustermetrics.clarabel4j.Status.*;
+
+/**
+ * A policy to optimize a {@link Model} again with escalating settings profiles if the solver runs into numerical
+ * trouble.
+ * <p>
+ * A {@link Model} with a retry policy is optimized with its own {@link Parameters} first. As long as the solver
+ * status is one of the retry statuses, the model is optimized again with the next profile of the policy, where the
+ * solver is recreated from the model data in native memory, see {@link Model#rebuild(Parameters)}.
+ * <p>
+ * The policy records the level, i.e. the parameters of the model or a profile, which succeeded for each problem
+ * structure, i.e. dimensions, column indices, row indices, and cones including their parameters. A model with the
+ * same structure, which is set up with the same policy later, starts at the recorded level. Structures are identified
+ * by a fingerprint, which hashes all indices in O(nnz). The fingerprint of a {@link SparsityPattern} or of the cones
+ * of a {@link ConeLayout} is computed once per pattern or layout. At most {@value #MAX_STRUCTURES} structures are
+ * recorded, where the least recently used are forgotten first. A policy may be shared by many models and threads.
+ * <p>
+ * Note that each retry recreates the solver, i.e. costs as much as a setup and a cold start of the solver.
+ */
+public final class RetryPolicy {
+
+    private static final Set<Status> DEFAULT_RETRY_STATUSES = EnumSet.of(NUMERICAL_ERROR, INSUFFICIENT_PROGRESS,
+            ALMOST_SOLVED);
+    private static final int MAX_STRUCTURES = 4096;
+    private static final int CONE_BLOCK_MARKER = -1;
+
+    @Getter
+    private final List<Parameters> profiles;
+    @Getter
+    private final Set<Status> retryStatuses;
+    private final Cache<Long, Integer> levels = CacheBuilder.newBuilder()
+            .maximumSize(MAX_STRUCTURES)
+            .build();
+
+    /**
+     * Creates a new retry policy, which retries on the statuses {@link Status#NUMERICAL_ERROR},
+     * {@link Status#INSUFFICIENT_PROGRESS}, and {@link Status#ALMOST_SOLVED}.
+     *
+     * @param profiles parameter objects for the solver settings in order of escalation
+     */
+    public RetryPolicy(@NonNull List<@NonNull Parameters> profiles) {
+        this(profiles, DEFAULT_RETRY_STATUSES);
+    }
+
+    /**
+     * Creates a new retry policy.
+     *
+     * @param profiles      parameter objects for the solver settings in order of escalation
+     * @param retryStatuses solver statuses on which the model is optimized again with the next profile
+     */
+    public RetryPolicy(@NonNull List<@NonNull Parameters> profiles, @NonNull Set<@NonNull Status> retryStatuses) {
+        checkArgument(!profiles.isEmpty(), "profiles must not be empty");
+        checkArgument(!retryStatuses.contains(SOLVED), "retry statuses must not contain solved");
+
+        this.profiles = List.copyOf(profiles);
+        this.retryStatuses = Set.copyOf(retryStatuses);
+    }
+
+    /**
+     * @return number of levels, i.e. the parameters of the model followed by the profiles
+     */
+    int levels() {
+        return profiles.size() + 1;
+    }
+
+    /**
+     * @param level      level
+     * @param parameters (optional) parameters of the model
+     * @return {@code parameters} for level zero, otherwise the profile of the level
+     */
+    Parameters parameters(int level, Parameters parameters) {
+        return level == 0 ? parameters : profiles.get(level - 1);
+    }
+
+    boolean isRetry(Status status) {
+        return retryStatuses.contains(status);
+    }
+
+    /**
+     * @return the level which succeeded for the structure, or zero if there is none
+     */
+    int startLevel(long structure) {
+        val level = levels.getIfPresent(structure);
+        return level != null ? level : 0;
+    }
+
+    void recordSuccess(long structure, int level) {
+        levels.put(structure, level);
+    }
+
+    /**
+     * Forgets the levels which succeeded for all problem structures.
+     */
+    public void reset() {
+        levels.invalidateAll();
+    }
+
+    /**
+     * @return fingerprint of the structure of a problem, which identifies problems whose data differs in values only
+     */
+    static long structure(Matrix p, Matrix a, List<Cone> cones) {
+        val layout = cones != null ? ConeLayout.lookup(cones) : null;
+        return Hashing.murmur3_128().newHasher()
+                .putLong(p != null ? p.n() : a.n())
+                .putLong(patternFingerprint(p))
+                .putLong(patternFingerprint(a))
+                .putLong(layout != null ? layout.fingerprint() : fingerprint(cones))
+                .hash()
+                .asLong();
+    }
+
+    private static long patternFingerprint(Matrix matrix) {
+        if (matrix == null) {
+            return 0L;
+        }
+
+        val pattern = SparsityPattern.lookup(matrix);
+        return pattern != null ? pattern.fingerprint() : fingerprint(matrix.m(), matrix.n(), matrix.colPtr(),
+                matrix.rowVal());
+    }
+
+    /**
+     * @return fingerprint of the dimensions, column index, and row index of a matrix
+     */
+    static long fingerprint(int m, int n, long[] colPtr, long[] rowVal) {
+        val hasher = Hashing.murmur3_128().newHasher()
+                .putInt(m)
+                .putInt(n);
+        for (val j : colPtr) {
+            hasher.putLong(j);
+        }
+        for (val i : rowVal) {
+            hasher.putLong(i);
+        }
+
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * @return fingerprint of the types, dimensions, and parameters of the cones
+     */
+    static long fingerprint(List<Cone> cones) {
+        val hasher = Hashing.murmur3_128().newHasher();
+        if (cones != null) {
+            cones.forEach(c -> putCone(hasher, c));
+        }
+
+        return hasher.hash().asLong();
+    }
+
+    private static void putCone(Hasher hasher, Cone cone) {
+        switch (cone) {
+            case ConeBlock coneBlock -> {
+                hasher.putInt(CONE_BLOCK_MARKER).putInt(coneBlock.getCount());
+                putCone(hasher, coneBlock.getCone());
+            }
+            case PowerCone powerCone -> hasher.putInt(powerCone.getTag()).putDouble(powerCone.getA());
+            case GenPowerCone genPowerCone -> {
+                hasher.putInt(genPowerCone.getTag()).putInt(genPowerCone.getA().length);
+                for (val a : genPowerCone.getA()) {
+                    hasher.putDouble(a);
+                }
+                hasher.putLong(genPowerCone.getN());
+            }
+            default -> hasher.putInt(cone.getTag()).putLong(cone.getDimension());
+        }
+    }
+
+}
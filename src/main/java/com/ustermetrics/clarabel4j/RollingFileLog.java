@@ -0,0 +1,151 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * A single log file, which aggregates the solver output of many models, see {@link RollingFileOutput}.
+ * <p>
+ * Lines are passed through a bounded buffer to a background thread, which writes them to the file, hence solver
+ * threads are not blocked by disk I/O. If the buffer is full, then lines are dropped, see {@link #dropped()}. If the
+ * file exceeds the maximum size, then it is rolled over, i.e. renamed to {@code <file>.1}, the previous
+ * {@code <file>.1} to {@code <file>.2}, and so on, where the oldest file is deleted.
+ * <p>
+ * To flush the buffer and close the file, {@link RollingFileLog} implements the {@link AutoCloseable} interface.
+ */
+public final class RollingFileLog implements AutoCloseable {
+
+    private static final int CAPACITY = 8192;
+
+    @Getter
+    private final Path path;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final AsyncLog log;
+    private Writer writer;
+    private long bytes;
+    private IOException exception;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new rolling file log, which appends to the given file.
+     *
+     * @param path     log file
+     * @param maxBytes maximum size of the log file in bytes before it is rolled over
+     * @param maxFiles maximum number of rolled over files which are kept
+     * @throws IOException if the file cannot be opened
+     */
+    public RollingFileLog(@NonNull Path path, long maxBytes, int maxFiles) throws IOException {
+        checkArgument(maxBytes > 0, "max bytes must be positive");
+        checkArgument(maxFiles >= 0, "max files must not be negative");
+
+        this.path = path;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+        open();
+        log = new AsyncLog(CAPACITY);
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(path, UTF_8, CREATE, APPEND);
+        bytes = Files.size(path);
+    }
+
+    /**
+     * Appends the line of the given model to the buffer without blocking.
+     *
+     * @param modelId model id
+     * @param line    line of solver output
+     */
+    void append(String modelId, String line) {
+        if (!closed) {
+            log.offer(() -> write("[" + modelId + "] " + line + System.lineSeparator()));
+        }
+    }
+
+    private void write(String line) {
+        if (exception != null) {
+            return;
+        }
+
+        try {
+            val length = line.getBytes(UTF_8).length;
+            if (bytes > 0 && bytes + length > maxBytes) {
+                roll();
+            }
+            writer.write(line);
+            bytes += length;
+            // Flushes once the buffer is drained, i.e. once per burst of lines instead of once per line
+            if (log.isEmpty()) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            exception = e;
+        }
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        if (maxFiles == 0) {
+            Files.delete(path);
+        } else {
+            Files.deleteIfExists(rolledPath(maxFiles));
+            for (var i = maxFiles - 1; i >= 1; i--) {
+                val rolledPath = rolledPath(i);
+                if (Files.exists(rolledPath)) {
+                    Files.move(rolledPath, rolledPath(i + 1), REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, rolledPath(1), REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rolledPath(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    /**
+     * @return number of lines dropped because the buffer was full
+     */
+    public long dropped() {
+        return log.dropped();
+    }
+
+    /**
+     * Writes the buffered lines and closes the file. Lines appended afterward are ignored.
+     *
+     * @throws IOException if a line could not be written or the file could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            log.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.close();
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Rolling file output, which appends the log lines of the solver, prefixed with the model id, to a
+ * {@link RollingFileLog} shared by many models.
+ * <p>
+ * Lines are read from the solver as with {@link StreamOutput} and written to the file by the background thread of the
+ * log. Requires a platform with named pipes, i.e. Linux or macOS.
+ */
+@Getter
+public final class RollingFileOutput implements Output {
+
+    private final RollingFileLog log;
+    private final String modelId;
+
+    public RollingFileOutput(@NonNull RollingFileLog log, @NonNull String modelId) {
+        this.log = log;
+        this.modelId = modelId;
+    }
+
+    /**
+     * @return consumer of the log lines, which appends each line to the log
+     */
+    Consumer<String> consumer() {
+        return line -> log.append(modelId, line);
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Math.toIntExact;
+
+/**
+ * A permutation of the rows of the cone constraints, such that all Zero cones come first, followed by all Nonnegative
+ * cones, followed by all other cones in their original order. The Zero cones and the Nonnegative cones are merged into
+ * a single cone each.
+ *
+ * @param permutation permutation of the rows, where row {@code i} of the grouped problem is row
+ *                    {@code permutation[i]} of the original problem
+ * @param cones       cones of the grouped problem
+ */
+record RowGrouping(int[] permutation, List<Cone> cones) {
+
+    /**
+     * @param cones types and dimensions of the convex cones
+     * @return the row grouping for {@code cones}
+     */
+    static RowGrouping of(List<Cone> cones) {
+        val m = toIntExact(cones.stream().mapToLong(Cone::getDimension).sum());
+        val zeroRows = new int[m];
+        val nonnegativeRows = new int[m];
+        val otherRows = new int[m];
+        var nZero = 0;
+        var nNonnegative = 0;
+        var nOther = 0;
+        val otherCones = new ArrayList<Cone>();
+
+        var offset = 0;
+        for (val cone : cones) {
+            val base = cone instanceof ConeBlock coneBlock ? coneBlock.getCone() : cone;
+            val dimension = toIntExact(cone.getDimension());
+            for (var i = offset; i < offset + dimension; i++) {
+                if (base instanceof ZeroCone) {
+                    zeroRows[nZero++] = i;
+                } else if (base instanceof NonnegativeCone) {
+                    nonnegativeRows[nNonnegative++] = i;
+                } else {
+                    otherRows[nOther++] = i;
+                }
+            }
+            if (!(base instanceof ZeroCone) && !(base instanceof NonnegativeCone)) {
+                otherCones.add(cone);
+            }
+            offset += dimension;
+        }
+
+        val permutation = new int[m];
+        System.arraycopy(zeroRows, 0, permutation, 0, nZero);
+        System.arraycopy(nonnegativeRows, 0, permutation, nZero, nNonnegative);
+        System.arraycopy(otherRows, 0, permutation, nZero + nNonnegative, nOther);
+
+        val groupedCones = new ArrayList<Cone>(otherCones.size() + 2);
+        if (nZero > 0) {
+            groupedCones.add(new ZeroCone(nZero));
+        }
+        if (nNonnegative > 0) {
+            groupedCones.add(new NonnegativeCone(nNonnegative));
+        }
+        groupedCones.addAll(otherCones);
+
+        return new RowGrouping(permutation, groupedCones);
+    }
+
+    /**
+     * @return {@code true} if the rows are not permuted
+     */
+    boolean isIdentity() {
+        for (var i = 0; i < permutation.length; i++) {
+            if (permutation[i] != i) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param a cone constraints matrix A of the original problem
+     * @return cone constraints matrix A of the grouped problem
+     */
+    Matrix permute(Matrix a) {
+        return a.permuteRows(permutation);
+    }
+
+    /**
+     * @param v vector of the original problem, e.g. the right-hand-side b
+     * @return vector of the grouped problem
+     */
+    double[] permute(double[] v) {
+        val permuted = new double[v.length];
+        for (var i = 0; i < v.length; i++) {
+            permuted[i] = v[permutation[i]];
+        }
+
+        return permuted;
+    }
+
+    /**
+     * @param v vector of the grouped problem, e.g. the slack or dual variables
+     * @return vector of the original problem
+     */
+    double[] unpermute(double[] v) {
+        val unpermuted = new double[v.length];
+        for (var i = 0; i < v.length; i++) {
+            unpermuted[permutation[i]] = v[i];
+        }
+
+        return unpermuted;
+    }
+
+}
@@ -1,9 +1,15 @@
 package com.ustermetrics.clarabel4j;
 
 import lombok.Getter;
+import lombok.val;
+
+import java.util.Arrays;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.ClarabelSecondOrderConeT_Tag;
+import static java.lang.Math.hypot;
+import static java.lang.Math.max;
+import static java.lang.Math.toIntExact;
 
 /**
  * Second-Order Cone
@@ -33,4 +39,42 @@ public final class SecondOrderCone extends Cone {
         return n;
     }
 
+    @Override
+    double violation(double[] v, int offset) {
+        var norm = 0.;
+        for (var i = offset + 1; i < offset + n; i++) {
+            norm = hypot(norm, v[i]);
+        }
+
+        return max(0., norm - v[offset]);
+    }
+
+    @Override
+    double dualViolation(double[] v, int offset) {
+        return violation(v, offset);
+    }
+
+    @Override
+    void project(double[] v, int offset) {
+        var norm = 0.;
+        for (var i = offset + 1; i < offset + n; i++) {
+            norm = hypot(norm, v[i]);
+        }
+
+        val t = v[offset];
+        if (norm <= t) {
+            return;
+        }
+        if (norm <= -t) {
+            Arrays.fill(v, offset, toIntExact(offset + n), 0.);
+            return;
+        }
+
+        val scale = (t + norm) / 2.;
+        v[offset] = scale;
+        for (var i = offset + 1; i < offset + n; i++) {
+            v[i] *= scale / norm;
+        }
+    }
+
 }
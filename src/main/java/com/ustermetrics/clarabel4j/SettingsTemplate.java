@@ -0,0 +1,129 @@
+package com.ustermetrics.clarabel4j;
+
+import com.google.common.collect.MapMaker;
+import com.ustermetrics.clarabel4j.bindings.ClarabelDefaultSettings_f64;
+import lombok.val;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.C_INT;
+import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.clarabel_DefaultSettings_f64_default;
+
+/**
+ * Native solver settings compiled from {@link Parameters}.
+ * <p>
+ * A template is compiled once per {@link Parameters} instance into a read-only segment, which is shared by all models
+ * and copied into the settings of a model at setup. Templates are recognized by the identity of the
+ * {@link Parameters} instance as long as it is reachable.
+ */
+final class SettingsTemplate {
+
+    private static final ConcurrentMap<Parameters, MemorySegment> TEMPLATES = new MapMaker().weakKeys().makeMap();
+    private static final MemorySegment DEFAULT_TEMPLATE = compile(null);
+
+    private SettingsTemplate() {
+    }
+
+    /**
+     * @param parameters (optional) parameter object for the solver settings
+     * @return the read-only native settings for {@code parameters}, or the solver defaults if {@code parameters} is
+     * {@code null}
+     */
+    static MemorySegment of(Parameters parameters) {
+        return parameters != null ? TEMPLATES.computeIfAbsent(parameters, SettingsTemplate::compile) : DEFAULT_TEMPLATE;
+    }
+
+    private static MemorySegment compile(Parameters parameters) {
+        val arena = Arena.ofAuto();
+        val settingsSeg = clarabel_DefaultSettings_f64_default(arena);
+
+        if (parameters != null) {
+            Optional.ofNullable(parameters.maxIter())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.max_iter(settingsSeg, p));
+            Optional.ofNullable(parameters.timeLimit())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.time_limit(settingsSeg, p));
+            Optional.ofNullable(parameters.verbose())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.verbose(settingsSeg, p));
+            Optional.ofNullable(parameters.maxStepFraction())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.max_step_fraction(settingsSeg, p));
+            Optional.ofNullable(parameters.tolGapAbs())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_gap_abs(settingsSeg, p));
+            Optional.ofNullable(parameters.tolGapRel())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_gap_rel(settingsSeg, p));
+            Optional.ofNullable(parameters.tolFeas())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_feas(settingsSeg, p));
+            Optional.ofNullable(parameters.tolInfeasAbs())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_infeas_abs(settingsSeg, p));
+            Optional.ofNullable(parameters.tolInfeasRel())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_infeas_rel(settingsSeg, p));
+            Optional.ofNullable(parameters.tolKtratio())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.tol_ktratio(settingsSeg, p));
+            Optional.ofNullable(parameters.reducedTolGapAbs())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_gap_abs(settingsSeg, p));
+            Optional.ofNullable(parameters.reducedTolGapRel())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_gap_rel(settingsSeg, p));
+            Optional.ofNullable(parameters.reducedTolFeas())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_feas(settingsSeg, p));
+            Optional.ofNullable(parameters.reducedTolInfeasAbs())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_infeas_abs(settingsSeg, p));
+            Optional.ofNullable(parameters.reducedTolInfeasRel())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_infeas_rel(settingsSeg, p));
+            Optional.ofNullable(parameters.reducedTolKtratio())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.reduced_tol_ktratio(settingsSeg, p));
+            Optional.ofNullable(parameters.equilibrateEnable())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_enable(settingsSeg, p));
+            Optional.ofNullable(parameters.equilibrateMaxIter())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_max_iter(settingsSeg, p));
+            Optional.ofNullable(parameters.equilibrateMinScaling())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_min_scaling(settingsSeg, p));
+            Optional.ofNullable(parameters.equilibrateMaxScaling())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.equilibrate_max_scaling(settingsSeg, p));
+            Optional.ofNullable(parameters.linesearchBacktrackStep())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.linesearch_backtrack_step(settingsSeg, p));
+            Optional.ofNullable(parameters.minSwitchStepLength())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.min_switch_step_length(settingsSeg, p));
+            Optional.ofNullable(parameters.minTerminateStepLength())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.min_terminate_step_length(settingsSeg, p));
+            Optional.ofNullable(parameters.maxThreads())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.max_threads(settingsSeg, p));
+            Optional.ofNullable(parameters.directKktSolver())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.direct_kkt_solver(settingsSeg, p));
+            Optional.ofNullable(parameters.directSolveMethod())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.direct_solve_method(settingsSeg, p.method()));
+            Optional.ofNullable(parameters.staticRegularizationEnable())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.static_regularization_enable(settingsSeg, p));
+            Optional.ofNullable(parameters.staticRegularizationConstant())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.static_regularization_constant(settingsSeg, p));
+            Optional.ofNullable(parameters.staticRegularizationProportional())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.static_regularization_proportional(settingsSeg, p));
+            Optional.ofNullable(parameters.dynamicRegularizationEnable())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.dynamic_regularization_enable(settingsSeg, p));
+            Optional.ofNullable(parameters.dynamicRegularizationEps())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.dynamic_regularization_eps(settingsSeg, p));
+            Optional.ofNullable(parameters.dynamicRegularizationDelta())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.dynamic_regularization_delta(settingsSeg, p));
+            Optional.ofNullable(parameters.iterativeRefinementEnable())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_enable(settingsSeg, p));
+            Optional.ofNullable(parameters.iterativeRefinementReltol())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_reltol(settingsSeg, p));
+            Optional.ofNullable(parameters.iterativeRefinementAbstol())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_abstol(settingsSeg, p));
+            Optional.ofNullable(parameters.iterativeRefinementMaxIter())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_max_iter(settingsSeg, p));
+            Optional.ofNullable(parameters.iterativeRefinementStopRatio())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.iterative_refinement_stop_ratio(settingsSeg, p));
+            Optional.ofNullable(parameters.presolveEnable())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.presolve_enable(settingsSeg, p));
+            Optional.ofNullable(parameters.pardisoIparm())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.pardiso_iparm(settingsSeg, arena.allocateFrom(C_INT, p)));
+            Optional.ofNullable(parameters.pardisoVerbose())
+                    .ifPresent(p -> ClarabelDefaultSettings_f64.pardiso_verbose(settingsSeg, p));
+        }
+
+        return settingsSeg.asReadOnly();
+    }
+
+}
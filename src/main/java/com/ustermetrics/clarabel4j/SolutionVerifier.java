@@ -0,0 +1,152 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.NonNull;
+import lombok.val;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.toIntExact;
+
+/**
+ * An independent verifier of solutions of a {@link Model}, which recomputes the residuals, the duality gap, and the
+ * cone membership of a solution from the model data instead of relying on the values reported by the solver.
+ * <p>
+ * The matrix-vector products use the parallel kernels of {@link Matrix} and the cone memberships are checked in
+ * parallel, such that the verification cost stays a small fraction of the solve time.
+ */
+public final class SolutionVerifier {
+
+    private final Matrix p;
+    private final double[] q;
+    private final Matrix a;
+    private final double[] b;
+    private final List<Cone> cones;
+    private final int[] offsets;
+    private final int n;
+    private final int m;
+
+    /**
+     * Creates a new verifier for the model data of {@link Model#setup(Matrix, double[], Matrix, double[], List)}.
+     *
+     * @param p     (optional) cost function matrix P. Only values in the upper triangular part of P are used.
+     * @param q     (optional) cost function weights q
+     * @param a     (optional) cone constraints matrix A
+     * @param b     (optional) right-hand-side of the cone constraints
+     * @param cones (optional) types and dimensions of the convex cones
+     */
+    public SolutionVerifier(Matrix p, double[] q, Matrix a, double[] b, List<@NonNull Cone> cones) {
+        checkArgument(p != null || a != null, "P or A must be supplied");
+        checkArgument(a != null && b != null && cones != null || a == null && b == null && cones == null,
+                "A, b, and cones must be supplied together or must be null together");
+        checkArgument(p == null || p.m() == p.n(), "P must be null or a square matrix");
+        checkArgument(p == null || a == null || p.n() == a.n(),
+                "P or A must be null or the number of columns of P must be equal to the number of columns of A");
+        checkArgument(q == null || q.length == (p != null ? p.n() : a.n()),
+                "q must be null or the length of q must be equal to the number of variables");
+        checkArgument(a == null || a.m() == b.length,
+                "A must be null or the number of rows of A must be equal to the length of b");
+
+        this.p = p != null ? p.upperTriangle() : null;
+        this.q = q;
+        this.a = a;
+        this.b = b;
+        this.cones = cones != null ? List.copyOf(cones) : List.of();
+        n = p != null ? p.n() : a.n();
+        m = a != null ? a.m() : 0;
+
+        offsets = new int[this.cones.size() + 1];
+        for (var i = 0; i < this.cones.size(); i++) {
+            offsets[i + 1] = toIntExact(offsets[i] + this.cones.get(i).getDimension());
+        }
+        checkArgument(offsets[this.cones.size()] == m,
+                "A must be null or the number of rows of A must be equal to the dimension of the convex set K");
+    }
+
+    /**
+     * Verifies the solution of an optimized {@link Model} set up with the data of this verifier.
+     *
+     * @param model optimized model
+     * @return the verification result
+     */
+    public Verification verify(@NonNull Model model) {
+        return verify(model.x(), model.s(), model.z());
+    }
+
+    /**
+     * Verifies the given solution.
+     *
+     * @param x primal variables
+     * @param s slack variables
+     * @param z dual variables
+     * @return the verification result
+     */
+    public Verification verify(double @NonNull [] x, double @NonNull [] s, double @NonNull [] z) {
+        checkArgument(x.length == n, "length of x must be equal to the number of variables");
+        checkArgument(s.length == m, "length of s must be equal to the number of constraints");
+        checkArgument(z.length == m, "length of z must be equal to the number of constraints");
+
+        // Primal residual Ax + s - b
+        var primalResidual = 0.;
+        if (a != null) {
+            val r = new double[m];
+            a.parallelMultiply(x, r);
+            for (var i = 0; i < m; i++) {
+                primalResidual = max(primalResidual, abs(r[i] + s[i] - b[i]));
+            }
+        }
+
+        // Dual residual Px + q + A'z, where Px = Ux + U'x - diag(U)x with U the upper triangular part of P
+        val px = new double[n];
+        if (p != null) {
+            val utx = new double[n];
+            p.parallelMultiply(x, px);
+            p.parallelTransposeMultiply(x, utx);
+            val colPtr = p.colPtr();
+            val rowVal = p.rowVal();
+            val nzVal = p.nzVal();
+            for (var j = 0; j < n; j++) {
+                px[j] += utx[j];
+                val end = (int) colPtr[j + 1];
+                if (end > colPtr[j] && rowVal[end - 1] == j) {
+                    px[j] -= nzVal[end - 1] * x[j];
+                }
+            }
+        }
+        val atz = new double[n];
+        if (a != null) {
+            a.parallelTransposeMultiply(z, atz);
+        }
+        var dualResidual = 0.;
+        var xpx = 0.;
+        var qx = 0.;
+        for (var j = 0; j < n; j++) {
+            val qj = q != null ? q[j] : 0.;
+            dualResidual = max(dualResidual, abs(px[j] + qj + atz[j]));
+            xpx += x[j] * px[j];
+            qx += qj * x[j];
+        }
+
+        var bz = 0.;
+        for (var i = 0; i < m; i++) {
+            bz += b[i] * z[i];
+        }
+
+        // Cone membership of s and z
+        val nCones = cones.size();
+        val primalConeViolation = new double[nCones];
+        val dualConeViolation = new double[nCones];
+        IntStream.range(0, nCones).parallel().forEach(i -> {
+            val cone = cones.get(i);
+            primalConeViolation[i] = cone.violation(s, offsets[i]);
+            dualConeViolation[i] = cone.dualViolation(z, offsets[i]);
+        });
+
+        return new Verification(primalResidual, dualResidual, 0.5 * xpx + qx, -0.5 * xpx - bz,
+                abs(xpx + qx + bz), primalConeViolation, dualConeViolation);
+    }
+
+}
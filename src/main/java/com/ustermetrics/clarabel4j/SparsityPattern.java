@@ -0,0 +1,135 @@
+package com.ustermetrics.clarabel4j;
+
+import com.google.common.collect.MapMaker;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.C_LONG_LONG;
+
+/**
+ * The sparsity pattern, i.e. dimensions, column index, and row index, of a {@link Matrix}, which is shared by many
+ * matrices with identical structure but different data.
+ * <p>
+ * The pattern copies and validates the column index and row index once at creation, and copies them into native
+ * memory right away. Matrices created with {@link #withValues(double[])} reference the copies on heap and are not
+ * validated again. When such a matrix is set up in a {@link Model}, the native copies are shared by all models, such
+ * that memory scales with the number of non-zero entries of the data only.
+ * <p>
+ * Matrices are recognized as long as their pattern is reachable. A model set up with such a matrix keeps the pattern
+ * reachable until it is cleaned up or closed. The column index and row index exposed by {@link Matrix#colPtr()} and
+ * {@link Matrix#rowVal()} must not be modified. Models always use the validated native copies, but other methods of
+ * the matrix, e.g. {@link Matrix#transpose()}, use the arrays on heap.
+ */
+public final class SparsityPattern {
+
+    private static final ConcurrentMap<long[], SparsityPattern> PATTERNS = new MapMaker().weakKeys().weakValues()
+            .makeMap();
+
+    @Getter
+    private final int m;
+    @Getter
+    private final int n;
+    private final long[] colPtr;
+    private final long[] rowVal;
+    private final MemorySegment colPtrSeg;
+    private final MemorySegment rowValSeg;
+    private volatile Long fingerprint;
+
+    /**
+     * Creates a new sparsity pattern from a copy of the given column index and row index.
+     *
+     * @param m      number of rows
+     * @param n      number of columns
+     * @param colPtr column index
+     * @param rowVal row index. Entries within each column need to appear in order of increasing row index.
+     */
+    public SparsityPattern(int m, int n, long @NonNull [] colPtr, long @NonNull [] rowVal) {
+        Matrix.checkPattern(m, n, colPtr, rowVal);
+
+        this.m = m;
+        this.n = n;
+        this.colPtr = colPtr.clone();
+        this.rowVal = rowVal.clone();
+        val arena = Arena.ofAuto();
+        colPtrSeg = arena.allocateFrom(C_LONG_LONG, this.colPtr);
+        rowValSeg = arena.allocateFrom(C_LONG_LONG, this.rowVal);
+        PATTERNS.put(this.colPtr, this);
+    }
+
+    /**
+     * Creates a new sparsity pattern from the structure of the given matrix.
+     *
+     * @param matrix matrix whose dimensions, column index, and row index are copied
+     * @return the sparsity pattern of {@code matrix}
+     */
+    public static SparsityPattern of(@NonNull Matrix matrix) {
+        return new SparsityPattern(matrix.m(), matrix.n(), matrix.colPtr(), matrix.rowVal());
+    }
+
+    /**
+     * @return number of non-zero entries
+     */
+    public int nnz() {
+        return rowVal.length;
+    }
+
+    /**
+     * Creates a matrix with this sparsity pattern and the given data.
+     * <p>
+     * The matrix references the column index and row index of this pattern without copying or validating them.
+     *
+     * @param nzVal data
+     * @return the matrix
+     */
+    public Matrix withValues(double @NonNull [] nzVal) {
+        return new Matrix(m, n, colPtr, rowVal, nzVal);
+    }
+
+    /**
+     * @return the sparsity pattern whose column index and row index are referenced by the given matrix, or
+     * {@code null} if there is none
+     */
+    static SparsityPattern lookup(Matrix matrix) {
+        return lookup(matrix.m(), matrix.n(), matrix.colPtr(), matrix.rowVal());
+    }
+
+    /**
+     * @return the sparsity pattern whose dimensions, column index, and row index are the given ones, or {@code null}
+     * if there is none
+     */
+    static SparsityPattern lookup(int m, int n, long[] colPtr, long[] rowVal) {
+        val pattern = PATTERNS.get(colPtr);
+        return pattern != null && pattern.rowVal == rowVal && pattern.m == m && pattern.n == n ? pattern : null;
+    }
+
+    /**
+     * @return fingerprint of the pattern for the {@link RetryPolicy}, which is computed once per pattern
+     */
+    long fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = RetryPolicy.fingerprint(m, n, colPtr, rowVal);
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * @return the column index in native memory, which is shared by all models and must not be modified
+     */
+    MemorySegment colPtrSegment() {
+        return colPtrSeg;
+    }
+
+    /**
+     * @return the row index in native memory, which is shared by all models and must not be modified
+     */
+    MemorySegment rowValSegment() {
+        return rowValSeg;
+    }
+
+}
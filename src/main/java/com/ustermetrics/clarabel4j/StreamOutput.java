@@ -0,0 +1,26 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Stream output, which delivers the log lines of the solver incrementally to a consumer on a background thread.
+ * <p>
+ * The solver writes its log into a named pipe, which is read line by line, hence no log accumulates in native memory.
+ * The consumer is called synchronously by the reading thread, hence a slow consumer fills the pipe and stalls the
+ * solver. Consumers which do I/O should hand the lines off to a queue, as {@link LoggerOutput} and
+ * {@link RollingFileOutput} do. Each model with stream output uses its own reading thread and temporary directory,
+ * which are released when the solver is freed. Requires a platform with named pipes, i.e. Linux or macOS.
+ */
+@Getter
+public final class StreamOutput implements Output {
+
+    private final Consumer<String> consumer;
+
+    public StreamOutput(@NonNull Consumer<String> consumer) {
+        this.consumer = consumer;
+    }
+
+}
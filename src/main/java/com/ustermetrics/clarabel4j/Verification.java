@@ -0,0 +1,38 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * The result of an independent verification of a solution of a {@link Model} by a {@link SolutionVerifier}.
+ *
+ * @param primalResidual      primal residual {@code ||Ax + s - b||} in the infinity norm
+ * @param dualResidual        dual residual {@code ||Px + q + A'z||} in the infinity norm
+ * @param primalObjective     primal objective {@code 1/2 x'Px + q'x}
+ * @param dualObjective       dual objective {@code -1/2 x'Px - b'z}
+ * @param dualityGap          absolute duality gap {@code |x'Px + q'x + b'z|}
+ * @param primalConeViolation violation of the membership of the slack variables s in each cone, which is zero for
+ *                            members
+ * @param dualConeViolation   violation of the membership of the dual variables z in each dual cone, which is zero
+ *                            for members
+ */
+public record Verification(double primalResidual, double dualResidual, double primalObjective, double dualObjective,
+                           double dualityGap, double @NonNull [] primalConeViolation,
+                           double @NonNull [] dualConeViolation) {
+
+    /**
+     * @return maximum violation of the membership of the slack variables s over all cones
+     */
+    public double maxPrimalConeViolation() {
+        return Arrays.stream(primalConeViolation).max().orElse(0.);
+    }
+
+    /**
+     * @return maximum violation of the membership of the dual variables z over all dual cones
+     */
+    public double maxDualConeViolation() {
+        return Arrays.stream(dualConeViolation).max().orElse(0.);
+    }
+
+}
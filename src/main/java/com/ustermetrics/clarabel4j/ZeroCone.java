@@ -2,8 +2,13 @@ package com.ustermetrics.clarabel4j;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.ClarabelZeroConeT_Tag;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.toIntExact;
 
 /**
  * Zero Cone
@@ -33,4 +38,24 @@ public final class ZeroCone extends Cone {
         return n;
     }
 
+    @Override
+    double violation(double[] v, int offset) {
+        var violation = 0.;
+        for (var i = offset; i < offset + n; i++) {
+            violation = max(violation, abs(v[i]));
+        }
+
+        return violation;
+    }
+
+    @Override
+    double dualViolation(double[] v, int offset) {
+        return 0.;
+    }
+
+    @Override
+    void project(double[] v, int offset) {
+        Arrays.fill(v, offset, toIntExact(offset + n), 0.);
+    }
+
 }
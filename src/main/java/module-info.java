@@ -2,6 +2,7 @@ module com.ustermetrics.clarabel4j {
     requires static lombok;
     requires com.google.common;
     requires org.scijava.nativelib;
+    requires org.slf4j;
 
     exports com.ustermetrics.clarabel4j;
 }
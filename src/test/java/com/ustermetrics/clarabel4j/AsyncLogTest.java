@@ -0,0 +1,88 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLogTest {
+
+    @Test
+    void offerTasksRunsTasksInOrder() throws InterruptedException {
+        val log = new AsyncLog(16);
+        final List<Integer> values = new ArrayList<>();
+
+        for (var i = 0; i < 10; i++) {
+            val value = i;
+            assertTrue(log.offer(() -> values.add(value)));
+        }
+        log.flush();
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), values);
+        assertEquals(0, log.dropped());
+    }
+
+    @Test
+    void offerTaskToFullBufferDropsTask() throws InterruptedException {
+        val log = new AsyncLog(1);
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+
+        log.offer(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+
+        assertTrue(log.offer(() -> {
+        }));
+        assertFalse(log.offer(() -> {
+        }));
+        assertEquals(1, log.dropped());
+
+        release.countDown();
+        log.flush();
+    }
+
+    @Test
+    void failingTaskDoesNotStopLaterTasks() throws InterruptedException {
+        val log = new AsyncLog(16);
+        final List<String> values = new ArrayList<>();
+
+        log.offer(() -> {
+            throw new IllegalStateException("task failed");
+        });
+        log.offer(() -> values.add("later"));
+        log.flush();
+
+        assertEquals(List.of("later"), values);
+    }
+
+    @Test
+    void closeRunsPendingTasks() throws InterruptedException {
+        val log = new AsyncLog(16);
+        final List<String> values = new ArrayList<>();
+
+        log.offer(() -> values.add("pending"));
+        log.close();
+
+        assertEquals(List.of("pending"), values);
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    void createAsyncLogWithNonPositiveCapacityThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new AsyncLog(0));
+
+        assertEquals("capacity must be positive", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static com.ustermetrics.clarabel4j.DirectSolveMethod.FAER;
+import static com.ustermetrics.clarabel4j.DirectSolveMethod.QDLDL;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoTunerTest {
+
+    @Test
+    void featuresOfMatricesReturnsFeatures() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val a = new Matrix(3, 2, new long[]{0, 2, 3}, new long[]{0, 1, 2}, new double[]{1., 1., 1.});
+
+        assertEquals(new AutoTuner.Features(2, 3, 5), AutoTuner.Features.of(p, a));
+        assertEquals(new AutoTuner.Features(2, 0, 2), AutoTuner.Features.of(p, null));
+        assertEquals(new AutoTuner.Features(2, 3, 3), AutoTuner.Features.of(null, a));
+    }
+
+    @Test
+    void candidateOfTunerWithoutRecordsReturnsNull() {
+        val tuner = new AutoTuner();
+
+        assertNull(tuner.candidate(new AutoTuner.Features(10, 10, 100)));
+    }
+
+    @Test
+    void candidateOfFeaturesBeyondOrderOfMagnitudeReturnsNull() throws IOException {
+        val path = Files.createTempFile("clarabel4j-tuner-", ".txt");
+        Files.write(path, List.of("10 20 100 QDLDL 1"));
+
+        val tuner = AutoTuner.load(path);
+        Files.delete(path);
+
+        assertEquals(new AutoTuner.Candidate(QDLDL, 1), tuner.candidate(new AutoTuner.Features(30, 40, 300)));
+        assertNull(tuner.candidate(new AutoTuner.Features(10000, 20000, 1000000)));
+    }
+
+    @Test
+    void saveAndLoadReturnsCandidates() throws IOException {
+        val path = Files.createTempFile("clarabel4j-tuner-", ".txt");
+        val candidates = List.of(new AutoTuner.Candidate(QDLDL, 1), new AutoTuner.Candidate(FAER, 2));
+
+        new AutoTuner(candidates).save(path);
+        val tuner = AutoTuner.load(path);
+        Files.delete(path);
+
+        assertEquals(candidates, tuner.getCandidates());
+    }
+
+    @Test
+    void loadUnknownCandidateThrowsException() throws IOException {
+        val path = Files.createTempFile("clarabel4j-tuner-", ".txt");
+        Files.write(path, List.of("candidate QDLDL 1", "10 20 100 FAER 8"));
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> AutoTuner.load(path));
+        Files.delete(path);
+
+        assertEquals("candidate must be one of the candidates: Candidate[method=FAER, threads=8]",
+                exception.getMessage());
+    }
+
+    @Test
+    void saveAndLoadReturnsNearestCandidate() throws IOException {
+        val path = Files.createTempFile("clarabel4j-tuner-", ".txt");
+        Files.write(path, List.of("10 20 100 QDLDL 1", "", "10000 20000 1000000 FAER 8"));
+
+        val tuner = AutoTuner.load(path);
+        tuner.save(path);
+        val loadedTuner = AutoTuner.load(path);
+        Files.delete(path);
+
+        assertEquals(new AutoTuner.Candidate(QDLDL, 1), loadedTuner.candidate(new AutoTuner.Features(12, 18, 150)));
+        assertEquals(new AutoTuner.Candidate(FAER, 8),
+                loadedTuner.candidate(new AutoTuner.Features(5000, 30000, 800000)));
+    }
+
+    @Test
+    void loadInvalidLineThrowsException() throws IOException {
+        val path = Files.createTempFile("clarabel4j-tuner-", ".txt");
+        Files.write(path, List.of("10 20 100 QDLDL"));
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> AutoTuner.load(path));
+        Files.delete(path);
+
+        assertEquals("line must contain five fields: 10 20 100 QDLDL", exception.getMessage());
+    }
+
+    @Test
+    void createTunerWithEmptyCandidatesThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new AutoTuner(List.of()));
+
+        assertEquals("candidates must not be empty", exception.getMessage());
+    }
+
+    @Test
+    void createCandidateWithNonPositiveThreadsThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new AutoTuner.Candidate(QDLDL, 0));
+
+        assertEquals("threads must be positive", exception.getMessage());
+    }
+
+    @Test
+    void calibrateWithDirectSolveMethodThrowsException() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val parameters = Parameters.builder()
+                .directSolveMethod(QDLDL)
+                .build();
+        val tuner = new AutoTuner();
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class,
+                () -> tuner.calibrate(parameters, p, null, null, null, null));
+
+        assertEquals("parameters must not set the direct solve method or the maximum number of threads",
+                exception.getMessage());
+    }
+
+}
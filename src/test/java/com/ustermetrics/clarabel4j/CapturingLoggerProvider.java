@@ -0,0 +1,128 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An <a href="https://www.slf4j.org">SLF4J</a> provider for the tests, which captures all events at all levels in
+ * memory, including the model id in the mapped diagnostic context.
+ * <p>
+ * Public, because SLF4J instantiates the provider reflectively, see the {@code slf4j.provider} system property of the
+ * surefire configuration.
+ */
+public final class CapturingLoggerProvider implements SLF4JServiceProvider {
+
+    private static final List<Event> EVENTS = new CopyOnWriteArrayList<>();
+
+    private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+    private final ILoggerFactory loggerFactory = name -> loggers.computeIfAbsent(name, CapturingLogger::new);
+    private final IMarkerFactory markerFactory = new BasicMarkerFactory();
+    private final MDCAdapter mdcAdapter = new BasicMDCAdapter();
+
+    /**
+     * @param loggerName name of the logger
+     * @return events captured by the logger so far
+     */
+    static List<Event> events(String loggerName) {
+        return EVENTS.stream()
+                .filter(e -> e.loggerName().equals(loggerName))
+                .toList();
+    }
+
+    @Override
+    public ILoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    @Override
+    public IMarkerFactory getMarkerFactory() {
+        return markerFactory;
+    }
+
+    @Override
+    public MDCAdapter getMDCAdapter() {
+        return mdcAdapter;
+    }
+
+    @Override
+    public String getRequestedApiVersion() {
+        return "2.0.99";
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    /**
+     * A captured event.
+     *
+     * @param loggerName name of the logger
+     * @param level      level
+     * @param message    formatted message
+     * @param modelId    model id in the mapped diagnostic context, or {@code null} if there is none
+     */
+    record Event(String loggerName, Level level, String message, String modelId) {
+    }
+
+    private static final class CapturingLogger extends LegacyAbstractLogger {
+
+        private CapturingLogger(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                                   Object[] arguments, Throwable throwable) {
+            val message = MessageFormatter.basicArrayFormat(messagePattern, arguments);
+            EVENTS.add(new Event(name, level, message, MDC.get(LoggerOutput.MDC_KEY)));
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConeBlockTest {
+
+    private static ConeBlock cone;
+
+    @BeforeAll
+    static void setUp() {
+        cone = new ConeBlock(new SecondOrderCone(2), 3);
+    }
+
+    @Test
+    void getTagReturnsTagOfCone() {
+        assertEquals(new SecondOrderCone(2).getTag(), cone.getTag());
+    }
+
+    @Test
+    void getDimensionReturnsCorrectDimension() {
+        assertEquals(6, cone.getDimension());
+    }
+
+    @Test
+    void getCountReturnsCount() {
+        assertEquals(3, cone.getCount());
+    }
+
+    @Test
+    void getCountOfConeReturnsOne() {
+        assertEquals(1, cone.getCone().getCount());
+    }
+
+    @Test
+    void newConeBlockWithZeroCountThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class,
+                () -> new ConeBlock(new SecondOrderCone(2), 0));
+
+        assertEquals("count must be positive", exception.getMessage());
+    }
+
+    @Test
+    void newConeBlockOfConeBlockThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new ConeBlock(cone, 2));
+
+        assertEquals("cone must not be a cone block", exception.getMessage());
+    }
+
+    @Test
+    void violationReturnsMaximumViolationOfAllCones() {
+        assertEquals(0., cone.violation(new double[]{1., 0.5, 1., -1., 2., 0.}, 0), 1e-8);
+        assertEquals(1., cone.violation(new double[]{1., 0.5, 1., 2., 2., 0.}, 0), 1e-8);
+    }
+
+    @Test
+    void dualViolationReturnsMaximumViolationOfAllCones() {
+        assertEquals(2., cone.dualViolation(new double[]{0., 0., 1., 0.5, 1., -3.}, 0), 1e-8);
+    }
+
+    @Test
+    void projectReturnsProjectionOfAllCones() {
+        val v = new double[]{2., 1., -2., 1., 0., 2.};
+
+        cone.project(v, 0);
+
+        assertArrayEquals(new double[]{2., 1., 0., 0., 1., 1.}, v, 1e-8);
+    }
+}
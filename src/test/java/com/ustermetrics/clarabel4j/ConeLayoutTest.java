@@ -0,0 +1,48 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConeLayoutTest {
+
+    @Test
+    void lookupConesOfLayoutReturnsLayout() {
+        val layout = new ConeLayout(List.of(new ZeroCone(1), new SecondOrderCone(3)));
+
+        assertSame(layout, ConeLayout.lookup(layout.getCones()));
+        assertEquals(4, layout.getDimension());
+    }
+
+    @Test
+    void lookupOtherConesReturnsNull() {
+        final List<Cone> cones = new ArrayList<>(List.of(new ZeroCone(1), new SecondOrderCone(3)));
+        val layout = new ConeLayout(cones);
+
+        assertNotSame(cones, layout.getCones());
+        assertNull(ConeLayout.lookup(cones));
+    }
+
+    @Test
+    void modifyingInputListDoesNotModifyLayout() {
+        final List<Cone> cones = new ArrayList<>(List.of(new ZeroCone(1)));
+        val layout = new ConeLayout(cones);
+
+        cones.add(new NonnegativeCone(2));
+
+        assertEquals(1, layout.getCones().size());
+        assertThrows(UnsupportedOperationException.class, () -> layout.getCones().add(new NonnegativeCone(2)));
+    }
+
+    @Test
+    void createLayoutWithEmptyConesThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new ConeLayout(List.of()));
+
+        assertEquals("cones must not be empty", exception.getMessage());
+    }
+
+}
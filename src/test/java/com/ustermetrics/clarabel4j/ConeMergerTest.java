@@ -0,0 +1,44 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConeMergerTest {
+
+    @Test
+    void mergeAdjacentZeroAndNonnegativeConesReturnsMergedCones() {
+        final List<Cone> cones = List.of(new ZeroCone(1), new ZeroCone(2), new NonnegativeCone(1),
+                new ConeBlock(new NonnegativeCone(2), 3), new SecondOrderCone(3), new ZeroCone(1),
+                new ConeBlock(new ZeroCone(1), 4));
+
+        val merged = ConeMerger.merge(cones);
+
+        assertEquals(4, merged.size());
+        assertInstanceOf(ZeroCone.class, merged.get(0));
+        assertEquals(3, merged.get(0).getDimension());
+        assertInstanceOf(NonnegativeCone.class, merged.get(1));
+        assertEquals(7, merged.get(1).getDimension());
+        assertSame(cones.get(4), merged.get(2));
+        assertInstanceOf(ZeroCone.class, merged.get(3));
+        assertEquals(5, merged.get(3).getDimension());
+    }
+
+    @Test
+    void mergeConesWithoutAdjacentCompatibleConesReturnsSameCones() {
+        final List<Cone> cones = List.of(new ZeroCone(1), new ExponentialCone(), new NonnegativeCone(2),
+                new ConeBlock(new SecondOrderCone(2), 2));
+
+        val merged = ConeMerger.merge(cones);
+
+        assertEquals(4, merged.size());
+        assertEquals(1, merged.get(0).getDimension());
+        assertSame(cones.get(1), merged.get(1));
+        assertEquals(2, merged.get(2).getDimension());
+        assertSame(cones.get(3), merged.get(3));
+    }
+
+}
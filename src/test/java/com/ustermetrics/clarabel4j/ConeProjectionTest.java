@@ -0,0 +1,89 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConeProjectionTest {
+
+    private static final List<Cone> CONES = List.of(new ZeroCone(2), new NonnegativeCone(3), new SecondOrderCone(4),
+            new ExponentialCone(), new PowerCone(0.3), new GenPowerCone(new double[]{0.2, 0.3, 0.5}, 2),
+            new ConeBlock(new SecondOrderCone(3), 5), new ConeBlock(new ExponentialCone(), 5));
+
+    @Test
+    void projectReturnsProjectionOntoConvexSet() {
+        val random = new Random(42);
+        val dimension = (int) CONES.stream().mapToLong(Cone::getDimension).sum();
+
+        for (var k = 0; k < 100; k++) {
+            val v = random.doubles(dimension, -2., 2.).toArray();
+            val p = v.clone();
+
+            ConeProjection.project(CONES, p);
+
+            // p is in K, p - v is in the dual cone, and p is orthogonal to v - p
+            val d = new double[dimension];
+            var product = 0.;
+            for (var i = 0; i < dimension; i++) {
+                d[i] = p[i] - v[i];
+                product += p[i] * (v[i] - p[i]);
+            }
+            var offset = 0;
+            for (val cone : CONES) {
+                assertEquals(0., cone.violation(p, offset), 1e-6);
+                assertEquals(0., cone.dualViolation(d, offset), 1e-6);
+                offset += (int) cone.getDimension();
+            }
+            assertEquals(0., product, 1e-6);
+        }
+    }
+
+    @Test
+    void projectMemberReturnsMember() {
+        final List<Cone> cones = List.of(new NonnegativeCone(2), new SecondOrderCone(3), new ExponentialCone());
+        val v = new double[]{1., 2., 3., 1., -2., 0., 1., 2.};
+
+        ConeProjection.project(cones, v);
+
+        assertArrayEquals(new double[]{1., 2., 3., 1., -2., 0., 1., 2.}, v, 1e-8);
+    }
+
+    @Test
+    void distanceReturnsEuclideanDistance() {
+        final List<Cone> cones = List.of(new ZeroCone(1), new NonnegativeCone(2));
+        val v = new double[]{3., -4., 5.};
+
+        assertEquals(5., ConeProjection.distance(cones, v), 1e-8);
+        assertArrayEquals(new double[]{3., -4., 5.}, v, 1e-8);
+    }
+
+    @Test
+    void distanceOfSliceReturnsEuclideanDistance() {
+        val v = new double[]{7., 0., 2.};
+
+        assertEquals(Math.sqrt(2.), ConeProjection.distance(new SecondOrderCone(2), v, 1), 1e-8);
+    }
+
+    @Test
+    void projectWithWrongLengthThrowsException() {
+        final List<Cone> cones = List.of(new ZeroCone(1), new NonnegativeCone(2));
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class,
+                () -> ConeProjection.project(cones, new double[2]));
+
+        assertEquals("length of v must be equal to the dimension of the cones", exception.getMessage());
+    }
+
+    @Test
+    void projectSliceOutOfBoundsThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class,
+                () -> ConeProjection.project(new SecondOrderCone(2), new double[2], 1));
+
+        assertEquals("slice of v must be within the bounds of v", exception.getMessage());
+    }
+
+}
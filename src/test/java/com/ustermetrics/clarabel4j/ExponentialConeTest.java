@@ -1,8 +1,10 @@
 package com.ustermetrics.clarabel4j;
 
+import lombok.val;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -25,4 +27,49 @@ class ExponentialConeTest {
         assertEquals(3, cone.getDimension());
     }
 
+    @Test
+    void violationReturnsZeroForMemberAndPositiveOtherwise() {
+        assertEquals(0., cone.violation(new double[]{0., 1., 1.}, 0), 1e-8);
+        assertEquals(0., cone.violation(new double[]{-1., 0., 0.}, 0), 1e-8);
+        assertEquals(Math.E - 1., cone.violation(new double[]{1., 1., 1.}, 0), 1e-8);
+    }
+
+    @Test
+    void dualViolationReturnsZeroForMemberAndPositiveOtherwise() {
+        assertEquals(0., cone.dualViolation(new double[]{-1., 0., 1.}, 0), 1e-8);
+        assertEquals(1., cone.dualViolation(new double[]{-1., 0., 0.}, 0), 1e-8);
+    }
+
+    @Test
+    void projectWithNegativeFirstAndSecondEntryReturnsAnalyticalSolution() {
+        val v = new double[]{-1., -1., -1.};
+
+        cone.project(v, 0);
+
+        assertArrayEquals(new double[]{-1., 0., 0.}, v, 1e-8);
+    }
+
+    @Test
+    void projectReturnsProjection() {
+        val v = new double[]{1., 1., 1.};
+        val p = v.clone();
+
+        cone.project(p, 0);
+
+        assertEquals(0., cone.violation(p, 0), 1e-8);
+        assertEquals(0., cone.dualViolation(new double[]{p[0] - v[0], p[1] - v[1], p[2] - v[2]}, 0), 1e-8);
+        assertEquals(0., p[0] * (v[0] - p[0]) + p[1] * (v[1] - p[1]) + p[2] * (v[2] - p[2]), 1e-8);
+    }
+
+    @Test
+    void projectCloseToBoundaryReturnsProjection() {
+        val v = new double[]{-1.9503199703528722, 0.05657642966115528, -0.8226572054693606};
+        val p = v.clone();
+
+        cone.project(p, 0);
+
+        assertEquals(0., cone.violation(p, 0), 1e-8);
+        assertEquals(0., cone.dualViolation(new double[]{p[0] - v[0], p[1] - v[1], p[2] - v[2]}, 0), 1e-8);
+        assertEquals(0., p[0] * (v[0] - p[0]) + p[1] * (v[1] - p[1]) + p[2] * (v[2] - p[2]), 1e-8);
+    }
 }
@@ -67,4 +67,42 @@ class GenPowerConeTest {
         assertEquals("n must be positive", exception.getMessage());
     }
 
+    @Test
+    void violationReturnsZeroForMemberAndPositiveOtherwise() {
+        assertEquals(0., cone.violation(new double[]{1., 1., 0.6, 0.8}, 0), 1e-8);
+        assertEquals(4., cone.violation(new double[]{1., 1., 3., 4.}, 0), 1e-8);
+        assertEquals(5., cone.violation(new double[]{-1., 1., 3., 4.}, 0), 1e-8);
+    }
+
+    @Test
+    void dualViolationReturnsZeroForMemberAndPositiveOtherwise() {
+        assertEquals(0., cone.dualViolation(new double[]{0.4, 0.6, 0.6, 0.8}, 0), 1e-8);
+        assertEquals(4., cone.dualViolation(new double[]{0.4, 0.6, 3., 4.}, 0), 1e-8);
+    }
+
+    @Test
+    void projectWithZeroSecondPartReturnsPositivePart() {
+        val v = new double[]{-1., 2., 0., 0.};
+
+        cone.project(v, 0);
+
+        assertArrayEquals(new double[]{0., 2., 0., 0.}, v, 1e-8);
+    }
+
+    @Test
+    void projectReturnsProjection() {
+        val v = new double[]{1., -0.5, 2., 1.};
+        val p = v.clone();
+
+        cone.project(p, 0);
+
+        var product = 0.;
+        for (var i = 0; i < v.length; i++) {
+            product += p[i] * (v[i] - p[i]);
+        }
+        assertEquals(0., cone.violation(p, 0), 1e-8);
+        assertEquals(0., cone.dualViolation(new double[]{p[0] - v[0], p[1] - v[1], p[2] - v[2], p[3] - v[3]}, 0),
+                1e-8);
+        assertEquals(0., product, 1e-8);
+    }
 }
@@ -0,0 +1,79 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IterationTraceTest {
+
+    private static final String OUTPUT = """
+            -------------------------------------------------------------
+                       Clarabel.rs v0.11.1  -  Clever Acronym
+            -------------------------------------------------------------
+
+            problem:
+              variables     = 2
+              constraints   = 5
+
+            iter    pcost        dcost       gap       pres      dres      k/t        μ       step
+            ---------------------------------------------------------------------------------------------
+              0  -2.9167e+00  -1.2500e+01  3.29e+00  0.00e+00  7.94e-01  1.00e+00  1.87e+00   ------
+              1  -1.7571e+00  -2.2264e+00  2.67e-01  5.55e-17  1.41e-01  8.60e-02  1.53e-01  9.06e-01
+              2  -1.8412e+00       inf     2.52e-02  2.78e-17  1.35e-02  9.18e-03  1.42e-02  9.42e-01
+            ---------------------------------------------------------------------------------------------
+            Terminated with status = Solved
+            solve time = 47.291µs
+            """;
+
+    @Test
+    void parseOutputReturnsColumns() {
+        val trace = IterationTrace.parse(OUTPUT);
+
+        assertEquals(3, trace.size());
+        assertArrayEquals(new int[]{0, 1, 2}, trace.iter());
+        assertArrayEquals(new double[]{-2.9167, -1.7571, -1.8412}, trace.pcost());
+        assertArrayEquals(new double[]{-12.5, -2.2264, Double.POSITIVE_INFINITY}, trace.dcost());
+        assertArrayEquals(new double[]{3.29, 2.67e-1, 2.52e-2}, trace.gap());
+        assertArrayEquals(new double[]{0., 5.55e-17, 2.78e-17}, trace.pres());
+        assertArrayEquals(new double[]{7.94e-1, 1.41e-1, 1.35e-2}, trace.dres());
+        assertArrayEquals(new double[]{1., 8.6e-2, 9.18e-3}, trace.kt());
+        assertArrayEquals(new double[]{1.87, 1.53e-1, 1.42e-2}, trace.mu());
+        assertArrayEquals(new double[]{Double.NaN, 9.06e-1, 9.42e-1}, trace.step());
+    }
+
+    @Test
+    void parseOutputLineByLineReturnsRowsConsumedSoFar() {
+        val parser = new IterationTrace.Parser();
+        val lines = OUTPUT.lines().toList();
+
+        lines.subList(0, 11).forEach(parser);
+
+        assertEquals(1, parser.trace().size());
+
+        for (var i = 0; i < 100; i++) {
+            lines.subList(8, 13).forEach(parser);
+        }
+
+        assertEquals(301, parser.trace().size());
+        assertEquals(2, parser.trace().iter()[300]);
+    }
+
+    @Test
+    void parseOutputWithoutTableReturnsEmptyTrace() {
+        val row = "  1  -1.7571e+00  -2.2264e+00  2.67e-01  5.55e-17  1.41e-01  8.60e-02  1.53e-01  9.06e-01";
+        val trace = IterationTrace.parse(row);
+
+        assertEquals(0, trace.size());
+    }
+
+    @Test
+    void createTraceWithColumnsOfDifferentLengthThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class,
+                () -> new IterationTrace(new int[]{0}, new double[1], new double[1], new double[1], new double[1],
+                        new double[1], new double[1], new double[1], new double[0]));
+
+        assertEquals("columns must have the same length", exception.getMessage());
+    }
+
+}
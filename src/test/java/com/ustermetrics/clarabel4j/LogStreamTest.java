@@ -0,0 +1,60 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisabledOnOs(OS.WINDOWS)
+class LogStreamTest {
+
+    @Test
+    void writeLinesDeliversLinesToConsumer() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        val stream = LogStream.open(lines::add);
+        val path = Path.of(stream.path());
+
+        Files.write(path, List.of("first", "second"));
+        stream.close();
+
+        assertEquals(List.of("first", "second"), lines);
+        assertFalse(Files.exists(path));
+        assertFalse(Files.exists(path.getParent()));
+    }
+
+    @Test
+    void closeWithoutWriterDeletesPipeAndDirectory() {
+        final List<String> lines = new ArrayList<>();
+        val stream = LogStream.open(lines::add);
+        val path = Path.of(stream.path());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), stream::close);
+
+        assertEquals(List.of(), lines);
+        assertFalse(Files.exists(path));
+        assertFalse(Files.exists(path.getParent()));
+    }
+
+    @Test
+    void failingConsumerThrowsExceptionOnClose() throws IOException {
+        val stream = LogStream.open(_ -> {
+            throw new IllegalStateException("consumer failed");
+        });
+
+        Files.write(Path.of(stream.path()), List.of("first", "second"));
+
+        val exception = assertThrowsExactly(IllegalStateException.class, stream::close);
+
+        assertEquals("consumer failed", exception.getMessage());
+    }
+
+}
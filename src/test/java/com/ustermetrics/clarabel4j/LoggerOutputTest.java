@@ -0,0 +1,52 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.slf4j.event.Level.INFO;
+
+class LoggerOutputTest {
+
+    @Test
+    void getModelIdReturnsModelId() {
+        val output = new LoggerOutput("model-1");
+
+        assertEquals(Model.class.getName(), output.getLoggerName());
+        assertEquals("model-1", output.getModelId());
+    }
+
+    @Test
+    void consumeLinesAppendsLogTasks() throws InterruptedException {
+        val log = new AsyncLog(16);
+        val consumer = new LoggerOutput("logger", "model-1").consumer(log);
+
+        consumer.accept("first");
+        consumer.accept("second");
+        log.flush();
+
+        assertEquals(0, log.dropped());
+    }
+
+    @Test
+    void consumeLinesLogsLinesAtInfoWithModelId() throws InterruptedException {
+        val log = new AsyncLog(16);
+        val consumer = new LoggerOutput("logger-1", "model-1").consumer(log);
+
+        consumer.accept("first");
+        consumer.accept("second");
+        log.flush();
+
+        assertEquals(List.of(new CapturingLoggerProvider.Event("logger-1", INFO, "first", "model-1"),
+                        new CapturingLoggerProvider.Event("logger-1", INFO, "second", "model-1")),
+                CapturingLoggerProvider.events("logger-1"));
+    }
+
+    @Test
+    void droppedReturnsDroppedLinesOfSharedBuffer() {
+        assertEquals(AsyncLog.INSTANCE.dropped(), LoggerOutput.dropped());
+    }
+
+}
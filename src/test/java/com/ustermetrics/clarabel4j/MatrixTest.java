@@ -4,6 +4,7 @@ import lombok.val;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -137,4 +138,379 @@ class MatrixTest {
         );
     }
 
+    @Test
+    void vstackReturnsVerticallyStackedMatrix() {
+        // [[1., 0.],      [[3., 4.]]
+        //  [0., 2.]]
+        val a1 = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val a2 = new Matrix(1, 2, new long[]{0, 1, 2}, new long[]{0, 0}, new double[]{3., 4.});
+
+        val matrix = Matrix.vstack(a1, a2);
+
+        assertEquals(3, matrix.m());
+        assertEquals(2, matrix.n());
+        assertArrayEquals(new long[]{0, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 2, 1, 2}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 3., 2., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void vstackWithDifferentNumberOfColumnsThrowsException() {
+        val a1 = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val a2 = new Matrix(1, 1, new long[]{0, 1}, new long[]{0}, new double[]{3.});
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> Matrix.vstack(a1, a2));
+
+        assertEquals("number of columns of all matrices must be equal", exception.getMessage());
+    }
+
+    @Test
+    void vstackWithoutMatricesThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, Matrix::vstack);
+
+        assertEquals("at least one matrix must be supplied", exception.getMessage());
+    }
+
+    @Test
+    void hstackReturnsHorizontallyStackedMatrix() {
+        // [[1., 0.],      [[3.],
+        //  [0., 2.]]       [4.]]
+        val a1 = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val a2 = new Matrix(2, 1, new long[]{0, 2}, new long[]{0, 1}, new double[]{3., 4.});
+
+        val matrix = Matrix.hstack(a1, a2);
+
+        assertEquals(2, matrix.m());
+        assertEquals(3, matrix.n());
+        assertArrayEquals(new long[]{0, 1, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 1, 0, 1}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 2., 3., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void hstackWithDifferentNumberOfRowsThrowsException() {
+        val a1 = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val a2 = new Matrix(1, 1, new long[]{0, 1}, new long[]{0}, new double[]{3.});
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> Matrix.hstack(a1, a2));
+
+        assertEquals("number of rows of all matrices must be equal", exception.getMessage());
+    }
+
+    @Test
+    void blockDiagReturnsBlockDiagonalMatrix() {
+        // [[1., 2.]]      [[3.],
+        //                  [4.]]
+        val a1 = new Matrix(1, 2, new long[]{0, 1, 2}, new long[]{0, 0}, new double[]{1., 2.});
+        val a2 = new Matrix(2, 1, new long[]{0, 2}, new long[]{0, 1}, new double[]{3., 4.});
+
+        val matrix = Matrix.blockDiag(a1, a2);
+
+        assertEquals(3, matrix.m());
+        assertEquals(3, matrix.n());
+        assertArrayEquals(new long[]{0, 1, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 0, 1, 2}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 2., 3., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void transposeReturnsTransposedMatrix() {
+        // [[1., 0., 2.],
+        //  [0., 3., 4.]]
+        val matrix = new Matrix(2, 3, new long[]{0, 1, 2, 4}, new long[]{0, 1, 0, 1}, new double[]{1., 3., 2., 4.});
+
+        val transposed = matrix.transpose();
+
+        assertEquals(3, transposed.m());
+        assertEquals(2, transposed.n());
+        assertArrayEquals(new long[]{0, 2, 4}, transposed.colPtr());
+        assertArrayEquals(new long[]{0, 2, 1, 2}, transposed.rowVal());
+        assertArrayEquals(new double[]{1., 2., 3., 4.}, transposed.nzVal(), 1e-8);
+    }
+
+    @Test
+    void parallelTransposeReturnsSameAsTranspose() {
+        val matrix = randomMatrix(500, 800, 0.5);
+
+        val expected = matrix.transpose();
+        val transposed = matrix.parallelTranspose();
+
+        assertEquals(expected.m(), transposed.m());
+        assertEquals(expected.n(), transposed.n());
+        assertArrayEquals(expected.colPtr(), transposed.colPtr());
+        assertArrayEquals(expected.rowVal(), transposed.rowVal());
+        assertArrayEquals(expected.nzVal(), transposed.nzVal());
+    }
+
+    @Test
+    void fromCsrReturnsMatrix() {
+        // [[1., 0., 2.],
+        //  [0., 3., 4.]]
+        val matrix = Matrix.fromCsr(2, 3, new long[]{0, 2, 4}, new long[]{0, 2, 1, 2}, new double[]{1., 2., 3., 4.});
+
+        assertEquals(2, matrix.m());
+        assertEquals(3, matrix.n());
+        assertArrayEquals(new long[]{0, 1, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 1, 0, 1}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 3., 2., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void parallelFromCsrReturnsMatrix() {
+        // [[1., 0., 2.],
+        //  [0., 3., 4.]]
+        val matrix = Matrix.parallelFromCsr(2, 3, new long[]{0, 2, 4}, new long[]{0, 2, 1, 2},
+                new double[]{1., 2., 3., 4.});
+
+        assertEquals(2, matrix.m());
+        assertEquals(3, matrix.n());
+        assertArrayEquals(new long[]{0, 1, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 1, 0, 1}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 3., 2., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void fromCsrWithUnorderedColumnIndexWithinRowThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                Matrix.fromCsr(2, 3, new long[]{0, 2, 4}, new long[]{2, 0, 1, 2}, new double[]{1., 2., 3., 4.})
+        );
+
+        assertEquals("entries of the row index within each column must be strictly ordered", exception.getMessage());
+    }
+
+    @Test
+    void upperTriangleReturnsUpperTriangularPart() {
+        // [[4., 1., 0.],
+        //  [1., 5., 2.],
+        //  [0., 2., 6.]]
+        val matrix = new Matrix(3, 3, new long[]{0, 2, 5, 7}, new long[]{0, 1, 0, 1, 2, 1, 2},
+                new double[]{4., 1., 1., 5., 2., 2., 6.});
+
+        val upper = matrix.upperTriangle();
+
+        assertEquals(3, upper.m());
+        assertEquals(3, upper.n());
+        assertArrayEquals(new long[]{0, 1, 3, 5}, upper.colPtr());
+        assertArrayEquals(new long[]{0, 0, 1, 1, 2}, upper.rowVal());
+        assertArrayEquals(new double[]{4., 1., 5., 2., 6.}, upper.nzVal(), 1e-8);
+    }
+
+    @Test
+    void upperTriangleOfUpperTriangularMatrixReturnsSameMatrix() {
+        val matrix = new Matrix(2, 2, new long[]{0, 1, 3}, new long[]{0, 0, 1}, new double[]{4., 1., 5.});
+
+        assertSame(matrix, matrix.upperTriangle());
+    }
+
+    @Test
+    void permuteRowsReturnsMatrixWithPermutedRows() {
+        // [[1., 0.],
+        //  [2., 3.],
+        //  [0., 4.]]
+        val matrix = new Matrix(3, 2, new long[]{0, 2, 4}, new long[]{0, 1, 1, 2}, new double[]{1., 2., 3., 4.});
+
+        val permuted = matrix.permuteRows(new int[]{2, 0, 1});
+
+        // [[0., 4.],
+        //  [1., 0.],
+        //  [2., 3.]]
+        assertEquals(3, permuted.m());
+        assertEquals(2, permuted.n());
+        assertArrayEquals(new long[]{0, 2, 4}, permuted.colPtr());
+        assertArrayEquals(new long[]{1, 2, 0, 2}, permuted.rowVal());
+        assertArrayEquals(new double[]{1., 2., 4., 3.}, permuted.nzVal(), 1e-8);
+    }
+
+    @Test
+    void fromDenseSymmetricReturnsUpperTriangularPart() {
+        val a = new double[][]{{4., 1., 0.}, {1., 5., 2.}, {0., 2., 6.}};
+
+        val matrix = Matrix.fromDenseSymmetric(a);
+
+        assertEquals(3, matrix.m());
+        assertEquals(3, matrix.n());
+        assertArrayEquals(new long[]{0, 1, 3, 5}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 0, 1, 1, 2}, matrix.rowVal());
+        assertArrayEquals(new double[]{4., 1., 5., 2., 6.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void fromDenseSymmetricWithToleranceReturnsUpperTriangularPart() {
+        val a = new double[][]{{4., 1.}, {1. + 1e-12, 5.}};
+
+        val matrix = Matrix.fromDenseSymmetric(a, 1e-10);
+
+        assertArrayEquals(new long[]{0, 1, 3}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 0, 1}, matrix.rowVal());
+        assertArrayEquals(new double[]{4., 1., 5.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void fromDenseSymmetricWithAsymmetricMatrixThrowsException() {
+        val a = new double[][]{{4., 1.}, {2., 5.}};
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> Matrix.fromDenseSymmetric(a, 1e-10));
+
+        assertEquals("matrix must be symmetric within the tolerance", exception.getMessage());
+    }
+
+    @Test
+    void fromDenseSymmetricWithNonSquareMatrixThrowsException() {
+        val a = new double[][]{{4., 1.}, {2.}};
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> Matrix.fromDenseSymmetric(a));
+
+        assertEquals("matrix must be square", exception.getMessage());
+    }
+
+    @Test
+    void fromDenseReturnsMatrix() {
+        val a = new double[][]{{1., 0., 2.}, {0., 3., 4.}};
+
+        val matrix = Matrix.fromDense(a);
+
+        assertEquals(2, matrix.m());
+        assertEquals(3, matrix.n());
+        assertArrayEquals(new long[]{0, 1, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 1, 0, 1}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 3., 2., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void fromDenseWithDropToleranceDropsSmallEntries() {
+        val a = new double[][]{{1., 1e-12, 2.}, {-1e-12, 3., 4.}};
+
+        val matrix = Matrix.fromDense(a, 1e-10);
+
+        assertArrayEquals(new long[]{0, 1, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 1, 0, 1}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 3., 2., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void fromDenseRowMajorArrayReturnsMatrix() {
+        val a = new double[]{1., 0., 2., 0., 3., 4.};
+
+        val matrix = Matrix.fromDense(2, 3, a);
+
+        assertEquals(2, matrix.m());
+        assertEquals(3, matrix.n());
+        assertArrayEquals(new long[]{0, 1, 2, 4}, matrix.colPtr());
+        assertArrayEquals(new long[]{0, 1, 0, 1}, matrix.rowVal());
+        assertArrayEquals(new double[]{1., 3., 2., 4.}, matrix.nzVal(), 1e-8);
+    }
+
+    @Test
+    void fromDenseRowMajorArrayWithInvalidLengthThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                Matrix.fromDense(2, 3, new double[]{1., 0., 2., 0., 3.})
+        );
+
+        assertEquals("length of the array must be equal to the number of rows times the number of columns",
+                exception.getMessage());
+    }
+
+    @Test
+    void fromDenseWithNegativeDropToleranceThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                Matrix.fromDense(new double[][]{{1.}}, -1.)
+        );
+
+        assertEquals("drop tolerance must be greater equal zero", exception.getMessage());
+    }
+
+    @Test
+    void multiplyReturnsMatrixVectorProduct() {
+        // [[1., 0., 2.],
+        //  [0., 3., 4.]]
+        val matrix = new Matrix(2, 3, new long[]{0, 1, 2, 4}, new long[]{0, 1, 0, 1}, new double[]{1., 3., 2., 4.});
+        val y = new double[]{5., 5.};
+
+        matrix.multiply(new double[]{1., 2., 3.}, y);
+
+        assertArrayEquals(new double[]{7., 18.}, y, 1e-8);
+    }
+
+    @Test
+    void multiplyWithInvalidLengthOfXThrowsException() {
+        val matrix = new Matrix(2, 3, new long[]{0, 1, 2, 4}, new long[]{0, 1, 0, 1}, new double[]{1., 3., 2., 4.});
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                matrix.multiply(new double[]{1., 2.}, new double[2])
+        );
+
+        assertEquals("length of x must be equal to the number of columns", exception.getMessage());
+    }
+
+    @Test
+    void transposeMultiplyReturnsTransposedMatrixVectorProduct() {
+        // [[1., 0., 2.],
+        //  [0., 3., 4.]]
+        val matrix = new Matrix(2, 3, new long[]{0, 1, 2, 4}, new long[]{0, 1, 0, 1}, new double[]{1., 3., 2., 4.});
+        val y = new double[3];
+
+        matrix.transposeMultiply(new double[]{1., 2.}, y);
+
+        assertArrayEquals(new double[]{1., 6., 10.}, y, 1e-8);
+    }
+
+    @Test
+    void quadraticFormReturnsQuadraticFormOfSymmetricMatrix() {
+        // [[4., 1.],
+        //  [1., 5.]]
+        val matrix = new Matrix(2, 2, new long[]{0, 1, 3}, new long[]{0, 0, 1}, new double[]{4., 1., 5.});
+
+        assertEquals(4. + 2. * 2. + 5. * 4., matrix.quadraticForm(new double[]{1., 2.}), 1e-8);
+    }
+
+    @Test
+    void quadraticFormOfNonSquareMatrixThrowsException() {
+        val matrix = new Matrix(2, 3, new long[]{0, 1, 2, 4}, new long[]{0, 1, 0, 1}, new double[]{1., 3., 2., 4.});
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                matrix.quadraticForm(new double[]{1., 2., 3.})
+        );
+
+        assertEquals("matrix must be square", exception.getMessage());
+    }
+
+    @Test
+    void parallelKernelsReturnSameAsSequentialKernels() {
+        val matrix = randomMatrix(600, 600, 0.5);
+        val random = new Random(7);
+        val x = random.doubles(600).toArray();
+        val expected = new double[600];
+        val actual = new double[600];
+
+        matrix.multiply(x, expected);
+        matrix.parallelMultiply(x, actual);
+        assertArrayEquals(expected, actual, 1e-10);
+
+        matrix.transposeMultiply(x, expected);
+        matrix.parallelTransposeMultiply(x, actual);
+        assertArrayEquals(expected, actual, 1e-10);
+
+        assertEquals(matrix.quadraticForm(x), matrix.parallelQuadraticForm(x), 1e-8);
+    }
+
+    private static Matrix randomMatrix(int m, int n, double density) {
+        val random = new Random(42);
+        val colPtr = new long[n + 1];
+        val rowVal = new long[(int) (m * n * density) + m * n / 10];
+        val nzVal = new double[rowVal.length];
+        var k = 0;
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < m; i++) {
+                if (random.nextDouble() < density && k < rowVal.length) {
+                    rowVal[k] = i;
+                    nzVal[k] = random.nextGaussian();
+                    k++;
+                }
+            }
+            colPtr[j + 1] = k;
+        }
+
+        return new Matrix(m, n, colPtr, Arrays.copyOf(rowVal, k), Arrays.copyOf(nzVal, k));
+    }
+
 }
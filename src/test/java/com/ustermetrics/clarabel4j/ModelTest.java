@@ -3,16 +3,28 @@ package com.ustermetrics.clarabel4j;
 import lombok.val;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.foreign.Arena;
 import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static com.ustermetrics.clarabel4j.DirectSolveMethod.PARDISO_MKL;
 import static com.ustermetrics.clarabel4j.DirectSolveMethod.QDLDL;
+import static com.ustermetrics.clarabel4j.Status.MAX_ITERATIONS;
+import static com.ustermetrics.clarabel4j.Status.MAX_TIME;
 import static com.ustermetrics.clarabel4j.Status.SOLVED;
+import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.C_DOUBLE;
 import static java.lang.Math.exp;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -115,6 +127,358 @@ class ModelTest {
         }
     }
 
+    @Test
+    void rebuildAfterOptimizeReturnsExpectedSolution() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val looseParameters = Parameters.builder()
+                .maxIter(1)
+                .verbose(false)
+                .build();
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(looseParameters);
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(MAX_ITERATIONS, model.optimize());
+            assertEquals(1, model.iterations());
+
+            model.rebuild(parameters);
+
+            assertThrows(IllegalStateException.class, model::x);
+            assertEquals(SOLVED, model.optimize());
+            assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, model.x(), TOLERANCE);
+        }
+    }
+
+    @Test
+    void solveQuadraticProgramWithRetryPolicyReturnsExpectedSolution() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .maxIter(1)
+                .verbose(false)
+                .build();
+        val profile = Parameters.builder()
+                .verbose(false)
+                .build();
+        val retryPolicy = new RetryPolicy(List.of(profile), Set.of(MAX_ITERATIONS));
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setRetryPolicy(retryPolicy);
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(SOLVED, model.optimize());
+            assertEquals(1, model.retries());
+            assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, model.x(), TOLERANCE);
+        }
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setRetryPolicy(retryPolicy);
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(SOLVED, model.optimize());
+            assertEquals(0, model.retries());
+            assertTrue(model.iterations() > 1);
+        }
+    }
+
+    @Test
+    void solveQuadraticProgramWithAutoTunerReturnsCalibratedCandidate() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+        val candidate = new AutoTuner.Candidate(QDLDL, 1);
+        val autoTuner = new AutoTuner(List.of(candidate));
+
+        assertEquals(candidate, autoTuner.calibrate(parameters, p, q, a, b, cones));
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setAutoTuner(autoTuner);
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(SOLVED, model.optimize());
+            assertEquals(QDLDL, model.directSolveMethod());
+            assertEquals(1, model.threads());
+            assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, model.x(), TOLERANCE);
+        }
+    }
+
+    @Test
+    void solveQuadraticProgramWithScreeningToleranceReturnsCoarseSolution() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setScreeningTolerance(1e-2);
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(SOLVED, model.optimize());
+            assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, model.x(), 1e-1);
+        }
+    }
+
+    @Test
+    void optimizeWithTighterScreeningToleranceReturnsIterationsOfParameterTolerances() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .tolGapAbs(1e-2)
+                .tolGapRel(1e-2)
+                .tolFeas(1e-2)
+                .build();
+
+        try (val model = new Model(); val screeningModel = new Model()) {
+            model.setParameters(parameters);
+            model.setup(p, q, a, b, cones);
+            assertEquals(SOLVED, model.optimize());
+
+            screeningModel.setParameters(parameters);
+            screeningModel.setScreeningTolerance(1e-12);
+            screeningModel.setup(p, q, a, b, cones);
+            assertEquals(SOLVED, screeningModel.optimize());
+
+            assertEquals(model.iterations(), screeningModel.iterations());
+        }
+    }
+
+    @Test
+    void solveQuadraticProgramWithDeadlineReturnsExpectedStatus() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setDeadline(Duration.ofMinutes(1));
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(SOLVED, model.optimize());
+            assertFalse(model.isDeadlineExceeded());
+        }
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setDeadline(Instant.now().minusSeconds(1));
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(MAX_TIME, model.optimize());
+            assertTrue(model.isDeadlineExceeded());
+        }
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setDeadline(Instant.MAX);
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(SOLVED, model.optimize());
+            assertFalse(model.isDeadlineExceeded());
+        }
+    }
+
+    @Test
+    void solveQuadraticProgramWithDeadlinePassedAfterSetupReturnsMaxTime() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+        val clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setClock(clock);
+            model.setDeadline(Duration.ofMinutes(1));
+            model.setup(p, q, a, b, cones);
+            clock.advance(Duration.ofMinutes(2));
+
+            assertEquals(MAX_TIME, model.optimize());
+            assertTrue(model.isDeadlineExceeded());
+        }
+    }
+
+    @Test
+    void sliceQuadraticProgramSolutionPerConeReturnsExpectedSlices() {
+        // Quadratic program from the Clarabel examples
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_qp.c
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        final List<Cone> cones = List.of(new ZeroCone(1), new NonnegativeCone(2), new NonnegativeCone(2));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setup(p, q, a, b, cones);
+
+            val status = model.optimize();
+
+            assertEquals(SOLVED, status);
+            assertEquals(0, model.coneOffset(0));
+            assertEquals(1, model.coneOffset(1));
+            assertEquals(3, model.coneOffset(2));
+            assertEquals(5, model.coneOffset(3));
+            assertArrayEquals(new double[]{-1.5714285714}, model.zSlice(0).toArray(C_DOUBLE), TOLERANCE);
+            assertArrayEquals(new double[]{0.5714285718, 0.7857142859}, model.sSlice(1, 2).toArray(C_DOUBLE),
+                    TOLERANCE);
+            assertArrayEquals(model.s(), model.sSlice(0, 3).toArray(C_DOUBLE), TOLERANCE);
+            assertEquals(0, model.zSlice(1, 1).byteSize());
+            assertTrue(model.zSlice(2).isReadOnly());
+        }
+    }
+
+    @Test
+    void accessSliceAfterSolverIsRecreatedThrowsException() {
+        val q = new double[]{1., 1.};
+        val a = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 1.});
+        val b = new double[]{1., 1.};
+        final List<Cone> cones = List.of(new NonnegativeCone(2));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setup(q, a, b, cones);
+            model.optimize();
+            val slice = model.zSlice(0);
+            model.rebuild(parameters);
+
+            assertThrows(IllegalStateException.class, () -> slice.toArray(C_DOUBLE));
+        }
+    }
+
+    @Test
+    void sliceSolutionWithRowGroupingThrowsException() {
+        val q = new double[]{1., 1.};
+        val a = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 1.});
+        val b = new double[]{1., 1.};
+        final List<Cone> cones = List.of(new NonnegativeCone(1), new ZeroCone(1));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        val exception = assertThrows(IllegalStateException.class, () -> {
+            try (val model = new Model()) {
+                model.setParameters(parameters);
+                model.setRowGrouping(true);
+                model.setup(q, a, b, cones);
+                model.optimize();
+                model.zSlice(0);
+            }
+        });
+
+        assertEquals("row grouping must be disabled", exception.getMessage());
+    }
+
+    @Test
+    void solveQuadraticProgramWithConeMergingReturnsExpectedSolution() {
+        // Quadratic program from the Clarabel examples with one cone per row
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_qp.c
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        final List<Cone> cones = List.of(new ZeroCone(1), new NonnegativeCone(1), new NonnegativeCone(1),
+                new NonnegativeCone(1), new NonnegativeCone(1));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setConeMerging(true);
+            model.setup(p, q, a, b, cones);
+
+            val status = model.optimize();
+
+            assertEquals(SOLVED, status);
+            assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, model.x(), TOLERANCE);
+            assertArrayEquals(new double[]{-1.5714285714, 0., 0., 0., 0.}, model.z(), TOLERANCE);
+            assertArrayEquals(new double[]{0., 0.5714285718, 0.7857142859, 1.4285714282, 1.2142857141}, model.s(),
+                    TOLERANCE);
+        }
+    }
+
+    @Test
+    void verifyQuadraticProgramSolutionReturnsSmallResiduals() {
+        // Quadratic program from the Clarabel examples
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_qp.c
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        final List<Cone> cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setup(p, q, a, b, cones);
+
+            val status = model.optimize();
+            val verification = new SolutionVerifier(p, q, a, b, cones).verify(model);
+
+            assertEquals(SOLVED, status);
+            assertEquals(0., verification.primalResidual(), TOLERANCE);
+            assertEquals(0., verification.dualResidual(), TOLERANCE);
+            assertEquals(model.objVal(), verification.primalObjective(), TOLERANCE);
+            assertEquals(0., verification.dualityGap(), TOLERANCE);
+            assertEquals(0., verification.maxPrimalConeViolation(), TOLERANCE);
+            assertEquals(0., verification.maxDualConeViolation(), TOLERANCE);
+        }
+    }
+
     @Test
     void solveSecondOrderConeProgramReturnsExpectedSolution() {
         // Second-order cone program from the Clarabel examples
@@ -168,6 +532,35 @@ class ModelTest {
         }
     }
 
+    @Test
+    void solveExponentialConeProgramWithRowGroupingReturnsExpectedSolution() {
+        // Exponential cone program from the Clarabel examples, where the zero cone rows are moved to the front
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_expcone.c
+        val p = new Matrix(3, 3, new long[]{0, 0, 0, 0}, new long[]{}, new double[]{});
+        val q = new double[]{-1., 0., 0.};
+        val a = new Matrix(5, 3, new long[]{0, 1, 3, 5}, new long[]{0, 1, 3, 2, 4},
+                new double[]{-1., -1., 1., -1., 1.});
+        val b = new double[]{0., 0., 0., 1., exp(5.)};
+        final List<Cone> cones = List.of(new ExponentialCone(), new ZeroCone(1), new ZeroCone(1));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setRowGrouping(true);
+            model.setup(p, q, a, b, cones);
+
+            val status = model.optimize();
+
+            assertEquals(SOLVED, status);
+            assertArrayEquals(new double[]{4.999999991697934, 1., 148.41315907885752}, model.x(), TOLERANCE);
+            assertArrayEquals(new double[]{-1., 4.000066891615788, 0.006737496384128253, 4.0000668915268625,
+                    0.006737496182862412}, model.z(), TOLERANCE);
+            assertArrayEquals(new double[]{4.999999991529423, 1., 148.41315907903652, 0., 0.}, model.s(), TOLERANCE);
+        }
+    }
+
     @Test
     void solveExponentialConeProgramWithoutMatrixPReturnsExpectedSolution() {
         // Exponential cone program from the Clarabel examples using model.setup() without matrix P
@@ -256,6 +649,35 @@ class ModelTest {
         }
     }
 
+    @Test
+    void solvePowerConeProgramWithConeBlockReturnsExpectedSolution() {
+        // Power cone program from the Clarabel examples with the zero cones given as a cone block
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_powcone.c
+        val p = new Matrix(6, 6, new long[]{0, 0, 0, 0, 0, 0, 0}, new long[]{}, new double[]{});
+        val q = new double[]{0., 0., -1., 0., 0., -1.};
+        val a = new Matrix(8, 6, new long[]{0, 2, 4, 5, 7, 9, 10}, new long[]{0, 6, 1, 6, 2, 3, 6, 4, 7, 5},
+                new double[]{-1., 1., -1., 2., -1., -1., 3., -1., 1., -1.});
+        val b = new double[]{0., 0., 0., 0., 0., 0., 3., 1.};
+        final List<Cone> cones = List.of(new PowerCone(0.6), new PowerCone(0.1), new ConeBlock(new ZeroCone(1), 2));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .maxIter(100)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setup(p, q, a, b, cones);
+
+            val status = model.optimize();
+
+            assertEquals(SOLVED, status);
+            assertArrayEquals(new double[]{1.6817569543698885, 0.5606519701613502, 1.0837653988697291,
+                    0.06564635991505167, 1., 0.7615896968982815}, model.x(), TOLERANCE);
+            assertArrayEquals(new double[]{0.3866364120, 0.7732728161, -1., 1.1599092208, 0.6854458909, -1.,
+                    0.3866364045, 0.6854458815}, model.z(), TOLERANCE);
+        }
+    }
+
     @Test
     void solveGeneralizedPowerConeProgramReturnsExpectedSolution() {
         // Generalized power cone program from the Clarabel examples
@@ -411,6 +833,77 @@ class ModelTest {
         }
     }
 
+    @Test
+    void solveProblemsWithSharedSparsityPatternReturnsExpectedSolution() {
+        // [[6., 0.],
+        //  [0., 4.]]
+        val pattern = new SparsityPattern(2, 2, new long[]{0, 1, 2}, new long[]{0, 1});
+        val q = new double[]{-1., -4.};
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model1 = new Model();
+             val model2 = new Model()) {
+            model1.setParameters(parameters);
+            model1.setup(pattern.withValues(new double[]{6., 4.}), q);
+            model2.setParameters(parameters);
+            model2.setup(pattern.withValues(new double[]{3., 2.}), q);
+
+            assertEquals(SOLVED, model1.optimize());
+            assertEquals(SOLVED, model2.optimize());
+            assertArrayEquals(new double[]{1. / 6., 1.}, model1.x(), TOLERANCE);
+            assertArrayEquals(new double[]{1. / 3., 2.}, model2.x(), TOLERANCE);
+        }
+    }
+
+    @Test
+    void rebuildOfProblemWithUnreachableSparsityPatternReturnsExpectedSolution() {
+        val q = new double[]{-1., -4.};
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setup(new SparsityPattern(2, 2, new long[]{0, 1, 2}, new long[]{0, 1})
+                    .withValues(new double[]{6., 4.}), q);
+            System.gc();
+            model.rebuild(parameters);
+
+            assertEquals(SOLVED, model.optimize());
+            assertArrayEquals(new double[]{1. / 6., 1.}, model.x(), TOLERANCE);
+        }
+    }
+
+    @Test
+    void solveProblemsWithSharedConeLayoutReturnsExpectedSolution() {
+        // Quadratic program from the Clarabel examples
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_qp.c
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val layout = new ConeLayout(List.of(new ZeroCone(1), new ConeBlock(new NonnegativeCone(1), 4)));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        try (val model1 = new Model();
+             val model2 = new Model()) {
+            model1.setParameters(parameters);
+            model1.setup(p, q, a, b, layout.getCones());
+            model2.setParameters(parameters);
+            model2.setup(p, q, a, b, layout.getCones());
+
+            assertEquals(SOLVED, model1.optimize());
+            assertEquals(SOLVED, model2.optimize());
+            assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, model1.x(), TOLERANCE);
+            assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, model2.x(), TOLERANCE);
+        }
+    }
+
     @Test
     void solveProblemWithVerboseParameterTrueReturnsSolved() {
         val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
@@ -466,6 +959,31 @@ class ModelTest {
         }
     }
 
+    @Test
+    void parseStringOutputReturnsIterationTrace() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(true)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setOutput(new StringOutput());
+            model.setup(p, q, a, b, cones);
+
+            assertEquals(SOLVED, model.optimize());
+
+            val trace = IterationTrace.parse(model.getStringOutput());
+            assertEquals(model.iterations(), trace.iter()[trace.size() - 1]);
+            assertEquals(model.objVal(), trace.pcost()[trace.size() - 1], 1e-4);
+        }
+    }
+
     @Test
     void solveProblemWithFileOutputReturnsExpected() throws IOException {
         val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
@@ -490,6 +1008,99 @@ class ModelTest {
         }
     }
 
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void solveProblemWithStreamOutputReturnsExpected() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val parameters = Parameters.builder()
+                .verbose(true)
+                .build();
+        final List<String> lines = new ArrayList<>();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setOutput(new StreamOutput(lines::add));
+            model.setup(p);
+
+            val status = model.optimize();
+            model.cleanup();
+
+            assertEquals(SOLVED, status);
+            assertTrue(lines.stream().anyMatch(l -> l.contains("Clarabel.rs")));
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void cleanupProblemWithFailingStreamOutputThrowsExceptionAndResetsModel() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val parameters = Parameters.builder()
+                .verbose(true)
+                .build();
+        val model = new Model();
+        model.setParameters(parameters);
+        model.setOutput(new StreamOutput(_ -> {
+            throw new IllegalStateException("consumer failed");
+        }));
+        model.setup(p);
+
+        assertEquals(SOLVED, model.optimize());
+
+        val exception = assertThrowsExactly(IllegalStateException.class, model::cleanup);
+        assertEquals("consumer failed", exception.getMessage());
+        val stageException = assertThrows(IllegalStateException.class, model::x);
+        assertEquals("model must be in stage optimized", stageException.getMessage());
+
+        // The solver was freed by cleanup and must not be freed again
+        model.close();
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void solveProblemWithLoggerOutputReturnsSolved() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val parameters = Parameters.builder()
+                .verbose(true)
+                .build();
+
+        try (val model = new Model()) {
+            model.setParameters(parameters);
+            model.setOutput(new LoggerOutput("model-1"));
+            model.setup(p);
+
+            val status = model.optimize();
+
+            assertEquals(SOLVED, status);
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void solveProblemWithRollingFileOutputReturnsExpected() throws IOException {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val parameters = Parameters.builder()
+                .verbose(true)
+                .build();
+        val path = Files.createTempFile("clarabel4j-output-", ".log");
+
+        try (val log = new RollingFileLog(path, 1 << 20, 1)) {
+            for (val modelId : List.of("model-1", "model-2")) {
+                try (val model = new Model()) {
+                    model.setParameters(parameters);
+                    model.setOutput(new RollingFileOutput(log, modelId));
+                    model.setup(p);
+
+                    assertEquals(SOLVED, model.optimize());
+                }
+            }
+        }
+
+        val lines = Files.readAllLines(path);
+        assertTrue(lines.stream().anyMatch(l -> l.startsWith("[model-1]") && l.contains("Clarabel.rs")));
+        assertTrue(lines.stream().anyMatch(l -> l.startsWith("[model-2]") && l.contains("Clarabel.rs")));
+        Files.delete(path);
+    }
+
     @Test
     void solveProblemWithArenaReturnsSolved() {
         val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
@@ -639,6 +1250,89 @@ class ModelTest {
         assertEquals("model must be in stage new", exception.getMessage());
     }
 
+    @Test
+    void rebuildBeforeSetupThrowsException() {
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        val exception = assertThrows(IllegalStateException.class, () -> {
+            try (val model = new Model()) {
+                model.rebuild(parameters);
+            }
+        });
+
+        assertEquals("model must not be in stage new", exception.getMessage());
+    }
+
+    @Test
+    void setRetryPolicyAfterSetupThrowsException() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val retryPolicy = new RetryPolicy(List.of(Parameters.builder().build()));
+
+        val exception = assertThrows(IllegalStateException.class, () -> {
+            try (val model = new Model()) {
+                model.setup(p);
+                model.setRetryPolicy(retryPolicy);
+            }
+        });
+
+        assertEquals("model must be in stage new", exception.getMessage());
+    }
+
+    @Test
+    void setAutoTunerAfterSetupThrowsException() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+
+        val exception = assertThrows(IllegalStateException.class, () -> {
+            try (val model = new Model()) {
+                model.setup(p);
+                model.setAutoTuner(new AutoTuner());
+            }
+        });
+
+        assertEquals("model must be in stage new", exception.getMessage());
+    }
+
+    @Test
+    void setNonPositiveScreeningToleranceThrowsException() {
+        val exception = assertThrows(IllegalArgumentException.class, () -> {
+            try (val model = new Model()) {
+                model.setScreeningTolerance(0.);
+            }
+        });
+
+        assertEquals("screening tolerance must be positive", exception.getMessage());
+    }
+
+    @Test
+    void setConeMergingAfterSetupThrowsException() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+
+        val exception = assertThrows(IllegalStateException.class, () -> {
+            try (val model = new Model()) {
+                model.setup(p);
+                model.setConeMerging(true);
+            }
+        });
+
+        assertEquals("model must be in stage new", exception.getMessage());
+    }
+
+    @Test
+    void setRowGroupingAfterSetupThrowsException() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+
+        val exception = assertThrows(IllegalStateException.class, () -> {
+            try (val model = new Model()) {
+                model.setup(p);
+                model.setRowGrouping(true);
+            }
+        });
+
+        assertEquals("model must be in stage new", exception.getMessage());
+    }
+
     @Test
     void optimizeBeforeSetupThrowsException() {
         val exception = assertThrows(IllegalStateException.class, () -> {
@@ -672,4 +1366,33 @@ class ModelTest {
         assertEquals("model must not be in stage new", exception.getMessage());
     }
 
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
 }
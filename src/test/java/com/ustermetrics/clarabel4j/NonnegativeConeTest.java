@@ -37,4 +37,23 @@ class NonnegativeConeTest {
         assertEquals("n must be positive", exception.getMessage());
     }
 
+    @Test
+    void violationReturnsMaximumNegativeEntry() {
+        assertEquals(2., cone.violation(new double[]{1., -2.}, 0), 1e-8);
+        assertEquals(0., cone.violation(new double[]{1., 0.}, 0), 1e-8);
+    }
+
+    @Test
+    void dualViolationReturnsMaximumNegativeEntry() {
+        assertEquals(2., cone.dualViolation(new double[]{1., -2.}, 0), 1e-8);
+    }
+
+    @Test
+    void projectReturnsPositivePart() {
+        val v = new double[]{1., -2.};
+
+        cone.project(v, 0);
+
+        assertArrayEquals(new double[]{1., 0.}, v, 1e-8);
+    }
 }
@@ -37,4 +37,28 @@ class PowerConeTest {
         assertEquals("a must be in (0, 1)", exception.getMessage());
     }
 
+    @Test
+    void violationReturnsZeroForMemberAndPositiveOtherwise() {
+        assertEquals(0., cone.violation(new double[]{1., 4., -2.}, 0), 1e-8);
+        assertEquals(1., cone.violation(new double[]{1., 4., 3.}, 0), 1e-8);
+        assertEquals(1., cone.violation(new double[]{-1., 4., 0.}, 0), 1e-8);
+    }
+
+    @Test
+    void dualViolationReturnsZeroForMemberAndPositiveOtherwise() {
+        assertEquals(0., cone.dualViolation(new double[]{0.5, 2., 2.}, 0), 1e-8);
+        assertEquals(1., cone.dualViolation(new double[]{0.5, 2., 3.}, 0), 1e-8);
+    }
+
+    @Test
+    void projectReturnsProjection() {
+        val v = new double[]{1., -0.5, 2.};
+        val p = v.clone();
+
+        cone.project(p, 0);
+
+        assertEquals(0., cone.violation(p, 0), 1e-8);
+        assertEquals(0., cone.dualViolation(new double[]{p[0] - v[0], p[1] - v[1], p[2] - v[2]}, 0), 1e-8);
+        assertEquals(0., p[0] * (v[0] - p[0]) + p[1] * (v[1] - p[1]) + p[2] * (v[2] - p[2]), 1e-8);
+    }
 }
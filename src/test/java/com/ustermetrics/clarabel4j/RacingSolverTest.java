@@ -0,0 +1,83 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.ustermetrics.clarabel4j.DirectSolveMethod.FAER;
+import static com.ustermetrics.clarabel4j.DirectSolveMethod.QDLDL;
+import static com.ustermetrics.clarabel4j.Status.MAX_ITERATIONS;
+import static com.ustermetrics.clarabel4j.Status.SOLVED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RacingSolverTest {
+
+    private static final double TOLERANCE = 1e-8;
+
+    @Test
+    void solveQuadraticProgramReturnsExpectedSolution() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+        val candidates = List.of(new AutoTuner.Candidate(QDLDL, 1), new AutoTuner.Candidate(FAER, 1));
+        val solver = new RacingSolver(candidates);
+
+        val result = solver.solve(parameters, p, q, a, b, cones, Model::x);
+
+        assertEquals(SOLVED, result.status());
+        assertTrue(candidates.contains(result.candidate()));
+        assertArrayEquals(new double[]{0.4285714282, 0.2142857141}, result.value(), TOLERANCE);
+    }
+
+    @Test
+    void solveUnsolvedProblemReturnsResultOfFirstCandidate() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val parameters = Parameters.builder()
+                .maxIter(1)
+                .verbose(false)
+                .build();
+        val candidates = List.of(new AutoTuner.Candidate(QDLDL, 1), new AutoTuner.Candidate(FAER, 1));
+        val solver = new RacingSolver(candidates);
+
+        val result = solver.solve(parameters, p, q, a, b, cones, Model::iterations);
+
+        assertEquals(candidates.getFirst(), result.candidate());
+        assertEquals(MAX_ITERATIONS, result.status());
+        assertEquals(1, result.value());
+    }
+
+    @Test
+    void createRacingSolverWithEmptyCandidatesThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new RacingSolver(List.of()));
+
+        assertEquals("candidates must not be empty", exception.getMessage());
+    }
+
+    @Test
+    void solveWithDirectSolveMethodThrowsException() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val parameters = Parameters.builder()
+                .maxThreads(2)
+                .build();
+        val solver = new RacingSolver(List.of(new AutoTuner.Candidate(QDLDL, 1)));
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class,
+                () -> solver.solve(parameters, p, null, null, null, null, Model::x));
+
+        assertEquals("parameters must not set the direct solve method or the maximum number of threads",
+                exception.getMessage());
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.ustermetrics.clarabel4j.Status.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    @Test
+    void createRetryPolicyReturnsDefaultRetryStatuses() {
+        val policy = new RetryPolicy(List.of(Parameters.builder().build()));
+
+        assertEquals(Set.of(NUMERICAL_ERROR, INSUFFICIENT_PROGRESS, ALMOST_SOLVED), policy.getRetryStatuses());
+        assertEquals(2, policy.levels());
+        assertTrue(policy.isRetry(NUMERICAL_ERROR));
+        assertFalse(policy.isRetry(MAX_ITERATIONS));
+    }
+
+    @Test
+    void parametersOfLevelReturnsModelParametersOrProfile() {
+        val modelParameters = Parameters.builder().build();
+        val profile = Parameters.builder().build();
+        val policy = new RetryPolicy(List.of(profile));
+
+        assertSame(modelParameters, policy.parameters(0, modelParameters));
+        assertSame(profile, policy.parameters(1, modelParameters));
+    }
+
+    @Test
+    void startLevelOfSameStructureReturnsRecordedLevel() {
+        val policy = new RetryPolicy(List.of(Parameters.builder().build()));
+        val a = new Matrix(2, 1, new long[]{0, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val otherA = new Matrix(2, 1, new long[]{0, 2}, new long[]{0, 1}, new double[]{3., 4.});
+        val structure = RetryPolicy.structure(null, a, List.of(new NonnegativeCone(2)));
+        val sameStructure = RetryPolicy.structure(null, otherA, List.of(new NonnegativeCone(2)));
+        val otherStructure = RetryPolicy.structure(null, a, List.of(new ZeroCone(2)));
+
+        policy.recordSuccess(structure, 1);
+
+        assertEquals(1, policy.startLevel(sameStructure));
+        assertEquals(0, policy.startLevel(otherStructure));
+
+        policy.reset();
+
+        assertEquals(0, policy.startLevel(sameStructure));
+    }
+
+    @Test
+    void structureOfConesWithOtherParametersReturnsOtherFingerprint() {
+        val a = new Matrix(6, 1, new long[]{0, 6}, new long[]{0, 1, 2, 3, 4, 5}, new double[]{1., 2., 3., 4., 5., 6.});
+        val b = new Matrix(3, 1, new long[]{0, 3}, new long[]{0, 1, 2}, new double[]{1., 2., 3.});
+
+        assertNotEquals(RetryPolicy.structure(null, a, List.of(new ConeBlock(new SecondOrderCone(3), 2))),
+                RetryPolicy.structure(null, a, List.of(new SecondOrderCone(6))));
+        assertNotEquals(RetryPolicy.structure(null, b, List.of(new PowerCone(0.3))),
+                RetryPolicy.structure(null, b, List.of(new PowerCone(0.7))));
+        assertNotEquals(RetryPolicy.structure(null, b, List.of(new GenPowerCone(new double[]{0.3, 0.7}, 1))),
+                RetryPolicy.structure(null, b, List.of(new GenPowerCone(new double[]{0.6, 0.4}, 1))));
+    }
+
+    @Test
+    void structureOfOtherPatternWithSameNumberOfNonZerosReturnsOtherFingerprint() {
+        val a = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val otherA = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{1, 0}, new double[]{1., 2.});
+        val cones = List.<Cone>of(new NonnegativeCone(2));
+
+        assertNotEquals(RetryPolicy.structure(null, a, cones), RetryPolicy.structure(null, otherA, cones));
+    }
+
+    @Test
+    void structureOfSparsityPatternReturnsFingerprintOfMatrix() {
+        val a = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val pattern = SparsityPattern.of(a);
+        val cones = List.<Cone>of(new NonnegativeCone(2));
+
+        assertEquals(RetryPolicy.structure(null, a, cones),
+                RetryPolicy.structure(null, pattern.withValues(new double[]{3., 4.}), cones));
+    }
+
+    @Test
+    void structureOfConeLayoutReturnsFingerprintOfCones() {
+        val a = new Matrix(2, 1, new long[]{0, 2}, new long[]{0, 1}, new double[]{1., 2.});
+        val layout = new ConeLayout(List.of(new NonnegativeCone(2)));
+
+        assertEquals(RetryPolicy.structure(null, a, List.of(new NonnegativeCone(2))),
+                RetryPolicy.structure(null, a, layout.getCones()));
+    }
+
+    @Test
+    void createRetryPolicyWithEmptyProfilesThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new RetryPolicy(List.of()));
+
+        assertEquals("profiles must not be empty", exception.getMessage());
+    }
+
+    @Test
+    void createRetryPolicyWithSolvedRetryStatusThrowsException() {
+        val profiles = List.of(Parameters.builder().build());
+        val exception = assertThrowsExactly(IllegalArgumentException.class,
+                () -> new RetryPolicy(profiles, Set.of(SOLVED)));
+
+        assertEquals("retry statuses must not contain solved", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollingFileLogTest {
+
+    @Test
+    void appendLinesWritesPrefixedLines() throws IOException {
+        val directory = Files.createTempDirectory("clarabel4j-log-");
+        val path = directory.resolve("solver.log");
+
+        try (val log = new RollingFileLog(path, 1024, 2)) {
+            log.append("model-1", "first");
+            log.append("model-2", "second");
+        }
+
+        assertEquals(List.of("[model-1] first", "[model-2] second"), Files.readAllLines(path));
+        Files.delete(path);
+        Files.delete(directory);
+    }
+
+    @Test
+    void closeAfterAppendingManyLinesWritesAllLines() throws IOException {
+        val path = Files.createTempFile("clarabel4j-log-", ".log");
+
+        try (val log = new RollingFileLog(path, 1 << 20, 0)) {
+            for (var i = 0; i < 1000; i++) {
+                log.append("m", "line " + i);
+            }
+            assertEquals(0, log.dropped());
+        }
+
+        val lines = Files.readAllLines(path);
+        assertEquals(1000, lines.size());
+        assertEquals("[m] line 999", lines.getLast());
+        Files.delete(path);
+    }
+
+    @Test
+    void appendLinesBeyondMaxBytesRollsFilesOver() throws IOException {
+        val directory = Files.createTempDirectory("clarabel4j-log-");
+        val path = directory.resolve("solver.log");
+
+        try (val log = new RollingFileLog(path, 16, 2)) {
+            for (var i = 0; i < 4; i++) {
+                log.append("m", "line " + i);
+            }
+        }
+
+        assertEquals(List.of("[m] line 3"), Files.readAllLines(path));
+        assertEquals(List.of("[m] line 2"), Files.readAllLines(directory.resolve("solver.log.1")));
+        assertEquals(List.of("[m] line 1"), Files.readAllLines(directory.resolve("solver.log.2")));
+        assertFalse(Files.exists(directory.resolve("solver.log.3")));
+        try (val files = Files.list(directory)) {
+            for (val file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void appendLinesAfterCloseIgnoresLines() throws IOException {
+        val path = Files.createTempFile("clarabel4j-log-", ".log");
+        val log = new RollingFileLog(path, 1024, 0);
+
+        log.close();
+        log.append("model-1", "first");
+        log.close();
+
+        assertEquals(List.of(), Files.readAllLines(path));
+        assertEquals(0, log.dropped());
+        Files.delete(path);
+    }
+
+    @Test
+    void createLogWithNonPositiveMaxBytesThrowsException() throws IOException {
+        val path = Files.createTempFile("clarabel4j-log-", ".log");
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new RollingFileLog(path, 0, 1));
+        Files.delete(path);
+
+        assertEquals("max bytes must be positive", exception.getMessage());
+    }
+
+    @Test
+    void createLogWithNegativeMaxFilesThrowsException() throws IOException {
+        val path = Files.createTempFile("clarabel4j-log-", ".log");
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () -> new RollingFileLog(path, 1, -1));
+        Files.delete(path);
+
+        assertEquals("max files must not be negative", exception.getMessage());
+    }
+
+}
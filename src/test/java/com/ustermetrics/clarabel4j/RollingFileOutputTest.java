@@ -0,0 +1,32 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RollingFileOutputTest {
+
+    @Test
+    void consumeLinesAppendsLinesToLog() throws IOException {
+        val path = Files.createTempFile("clarabel4j-log-", ".log");
+
+        try (val log = new RollingFileLog(path, 1024, 1)) {
+            val output = new RollingFileOutput(log, "model-1");
+
+            assertSame(log, output.getLog());
+            assertEquals("model-1", output.getModelId());
+
+            output.consumer().accept("first");
+        }
+
+        assertEquals(List.of("[model-1] first"), Files.readAllLines(path));
+        Files.delete(path);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowGroupingTest {
+
+    @Test
+    void ofInterleavedConesReturnsGroupedRows() {
+        final List<Cone> cones = List.of(new NonnegativeCone(1), new SecondOrderCone(2), new ZeroCone(1),
+                new ConeBlock(new NonnegativeCone(1), 2), new ZeroCone(1));
+
+        val grouping = RowGrouping.of(cones);
+
+        assertArrayEquals(new int[]{3, 6, 0, 4, 5, 1, 2}, grouping.permutation());
+        assertEquals(3, grouping.cones().size());
+        assertInstanceOf(ZeroCone.class, grouping.cones().get(0));
+        assertEquals(2, grouping.cones().get(0).getDimension());
+        assertInstanceOf(NonnegativeCone.class, grouping.cones().get(1));
+        assertEquals(3, grouping.cones().get(1).getDimension());
+        assertSame(cones.get(1), grouping.cones().get(2));
+        assertFalse(grouping.isIdentity());
+    }
+
+    @Test
+    void ofGroupedConesReturnsIdentity() {
+        final List<Cone> cones = List.of(new ZeroCone(1), new NonnegativeCone(2), new ExponentialCone());
+
+        assertTrue(RowGrouping.of(cones).isIdentity());
+    }
+
+    @Test
+    void unpermutePermutedVectorReturnsVector() {
+        final List<Cone> cones = List.of(new NonnegativeCone(1), new SecondOrderCone(2), new ZeroCone(1));
+        val grouping = RowGrouping.of(cones);
+        val v = new double[]{1., 2., 3., 4.};
+
+        val permuted = grouping.permute(v);
+
+        assertArrayEquals(new double[]{4., 1., 2., 3.}, permuted, 1e-8);
+        assertArrayEquals(v, grouping.unpermute(permuted), 1e-8);
+    }
+
+    @Test
+    void permuteMatrixReturnsMatrixWithGroupedRows() {
+        final List<Cone> cones = List.of(new NonnegativeCone(1), new ZeroCone(1));
+        val a = new Matrix(2, 1, new long[]{0, 2}, new long[]{0, 1}, new double[]{1., 2.});
+
+        val permuted = RowGrouping.of(cones).permute(a);
+
+        assertArrayEquals(new long[]{0, 1}, permuted.rowVal());
+        assertArrayEquals(new double[]{2., 1.}, permuted.nzVal(), 1e-8);
+    }
+
+}
@@ -37,4 +37,29 @@ class SecondOrderConeTest {
         assertEquals("n must be positive", exception.getMessage());
     }
 
+    @Test
+    void violationReturnsNormExceedingFirstEntry() {
+        assertEquals(0., cone.violation(new double[]{1., 0.5}, 0), 1e-8);
+        assertEquals(1., cone.violation(new double[]{1., 2.}, 0), 1e-8);
+    }
+
+    @Test
+    void dualViolationReturnsNormExceedingFirstEntry() {
+        assertEquals(1., cone.dualViolation(new double[]{1., -2.}, 0), 1e-8);
+    }
+
+    @Test
+    void projectReturnsProjection() {
+        val inside = new double[]{2., 1.};
+        val polar = new double[]{-2., 1.};
+        val outside = new double[]{0., 2.};
+
+        cone.project(inside, 0);
+        cone.project(polar, 0);
+        cone.project(outside, 0);
+
+        assertArrayEquals(new double[]{2., 1.}, inside, 1e-8);
+        assertArrayEquals(new double[]{0., 0.}, polar, 1e-8);
+        assertArrayEquals(new double[]{1., 1.}, outside, 1e-8);
+    }
 }
@@ -0,0 +1,54 @@
+package com.ustermetrics.clarabel4j;
+
+import com.ustermetrics.clarabel4j.bindings.ClarabelDefaultSettings_f64;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+
+import static com.ustermetrics.clarabel4j.bindings.Clarabel_h.clarabel_DefaultSettings_f64_default;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SettingsTemplateTest {
+
+    @Test
+    void ofParametersReturnsCompiledSettings() {
+        val parameters = Parameters.builder()
+                .maxIter(10)
+                .tolFeas(1e-6)
+                .pardisoIparm(new int[64])
+                .build();
+
+        val template = SettingsTemplate.of(parameters);
+
+        assertTrue(template.isReadOnly());
+        assertEquals(10, ClarabelDefaultSettings_f64.max_iter(template));
+        assertEquals(1e-6, ClarabelDefaultSettings_f64.tol_feas(template));
+        try (val arena = Arena.ofConfined()) {
+            val defaults = clarabel_DefaultSettings_f64_default(arena);
+            assertEquals(ClarabelDefaultSettings_f64.tol_gap_abs(defaults),
+                    ClarabelDefaultSettings_f64.tol_gap_abs(template));
+        }
+    }
+
+    @Test
+    void ofSameParametersReturnsSameTemplate() {
+        val parameters = Parameters.builder()
+                .verbose(false)
+                .build();
+
+        assertSame(SettingsTemplate.of(parameters), SettingsTemplate.of(parameters));
+    }
+
+    @Test
+    void ofNullReturnsDefaultSettings() {
+        val t = SettingsTemplate.of(null);
+
+        try (val arena = Arena.ofConfined()) {
+            val d = clarabel_DefaultSettings_f64_default(arena);
+            assertEquals(ClarabelDefaultSettings_f64.max_iter(d), ClarabelDefaultSettings_f64.max_iter(t));
+            assertEquals(ClarabelDefaultSettings_f64.tol_feas(d), ClarabelDefaultSettings_f64.tol_feas(t));
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolutionVerifierTest {
+
+    private static final double TOLERANCE = 1e-8;
+
+    @Test
+    void verifyLinearProgramSolutionReturnsZeroResidualsAndGap() {
+        // Linear program from the Clarabel examples
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_lp.c
+        val q = new double[]{1., -1.};
+        val a = new Matrix(4, 2, new long[]{0, 2, 4}, new long[]{0, 2, 1, 3}, new double[]{1., -1., 1., -1.});
+        val b = new double[]{1., 1., 1., 1.};
+        final List<Cone> cones = List.of(new NonnegativeCone(4));
+        val verifier = new SolutionVerifier(null, q, a, b, cones);
+
+        val verification = verifier.verify(new double[]{-1., 1.}, new double[]{2., 0., 0., 2.},
+                new double[]{0., 1., 1., 0.});
+
+        assertEquals(0., verification.primalResidual(), TOLERANCE);
+        assertEquals(0., verification.dualResidual(), TOLERANCE);
+        assertEquals(-2., verification.primalObjective(), TOLERANCE);
+        assertEquals(-2., verification.dualObjective(), TOLERANCE);
+        assertEquals(0., verification.dualityGap(), TOLERANCE);
+        assertArrayEquals(new double[]{0.}, verification.primalConeViolation(), TOLERANCE);
+        assertEquals(0., verification.maxDualConeViolation(), TOLERANCE);
+    }
+
+    @Test
+    void verifyQuadraticProgramSolutionReturnsZeroResidualsAndGap() {
+        // Quadratic program from the Clarabel examples
+        // https://github.com/oxfordcontrol/Clarabel.cpp/blob/main/examples/c/example_qp.c
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val q = new double[]{-1., -4.};
+        val a = new Matrix(5, 2, new long[]{0, 3, 6}, new long[]{0, 1, 3, 0, 2, 4},
+                new double[]{1., 1., -1., -2., 1., -1.});
+        val b = new double[]{0., 1., 1., 1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(4));
+        val verifier = new SolutionVerifier(p, q, a, b, cones);
+
+        val verification = verifier.verify(new double[]{3. / 7., 3. / 14.},
+                new double[]{0., 4. / 7., 11. / 14., 10. / 7., 17. / 14.},
+                new double[]{-11. / 7., 0., 0., 0., 0.});
+
+        assertEquals(0., verification.primalResidual(), TOLERANCE);
+        assertEquals(0., verification.dualResidual(), TOLERANCE);
+        assertEquals(0., verification.dualityGap(), TOLERANCE);
+        assertEquals(0., verification.maxPrimalConeViolation(), TOLERANCE);
+        assertEquals(0., verification.maxDualConeViolation(), TOLERANCE);
+    }
+
+    @Test
+    void verifyInfeasibleSolutionReturnsViolations() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val a = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 1.});
+        val b = new double[]{1., 1.};
+        val cones = List.of(new ZeroCone(1), new NonnegativeCone(1));
+        val verifier = new SolutionVerifier(p, null, a, b, cones);
+
+        val verification = verifier.verify(new double[]{1., 1.}, new double[]{0.5, -2.}, new double[]{0., -1.});
+
+        assertEquals(2., verification.primalResidual(), TOLERANCE);
+        assertEquals(6., verification.dualResidual(), TOLERANCE);
+        assertArrayEquals(new double[]{0.5, 2.}, verification.primalConeViolation(), TOLERANCE);
+        assertArrayEquals(new double[]{0., 1.}, verification.dualConeViolation(), TOLERANCE);
+    }
+
+    @Test
+    void verifyWithInvalidLengthOfXThrowsException() {
+        val p = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{6., 4.});
+        val verifier = new SolutionVerifier(p, null, null, null, null);
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                verifier.verify(new double[]{1.}, new double[0], new double[0])
+        );
+
+        assertEquals("length of x must be equal to the number of variables", exception.getMessage());
+    }
+
+    @Test
+    void createVerifierWithInvalidConesThrowsException() {
+        val a = new Matrix(2, 2, new long[]{0, 1, 2}, new long[]{0, 1}, new double[]{1., 1.});
+        val b = new double[]{1., 1.};
+        final List<Cone> cones = List.of(new ZeroCone(1));
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                new SolutionVerifier(null, null, a, b, cones)
+        );
+
+        assertEquals("A must be null or the number of rows of A must be equal to the dimension of the convex set K",
+                exception.getMessage());
+    }
+
+}
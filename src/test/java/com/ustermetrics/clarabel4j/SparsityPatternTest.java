@@ -0,0 +1,81 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparsityPatternTest {
+
+    @Test
+    void withValuesReturnsMatrixSharingPattern() {
+        val pattern = new SparsityPattern(2, 2, new long[]{0, 1, 2}, new long[]{0, 1});
+
+        val matrix1 = pattern.withValues(new double[]{6., 4.});
+        val matrix2 = pattern.withValues(new double[]{3., 2.});
+
+        assertEquals(2, matrix1.m());
+        assertEquals(2, matrix1.n());
+        assertArrayEquals(new long[]{0, 1, 2}, matrix1.colPtr());
+        assertArrayEquals(new long[]{0, 1}, matrix1.rowVal());
+        assertArrayEquals(new double[]{6., 4.}, matrix1.nzVal(), 1e-8);
+        assertSame(matrix1.colPtr(), matrix2.colPtr());
+        assertSame(matrix1.rowVal(), matrix2.rowVal());
+        assertSame(pattern, SparsityPattern.lookup(matrix1));
+    }
+
+    @Test
+    void ofReturnsPatternOfMatrix() {
+        val matrix = new Matrix(2, 3, new long[]{0, 1, 2, 4}, new long[]{0, 1, 0, 1}, new double[]{1., 3., 2., 4.});
+
+        val pattern = SparsityPattern.of(matrix);
+
+        assertEquals(2, pattern.getM());
+        assertEquals(3, pattern.getN());
+        assertEquals(4, pattern.nnz());
+        assertNull(SparsityPattern.lookup(matrix));
+    }
+
+    @Test
+    void withValuesWithInvalidDataThrowsException() {
+        val pattern = new SparsityPattern(2, 2, new long[]{0, 1, 2}, new long[]{0, 1});
+
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                pattern.withValues(new double[]{6., 4., 5.})
+        );
+
+        assertEquals("length of data must be equal to the length of the row index", exception.getMessage());
+    }
+
+    @Test
+    void createPatternWithUnorderedRowIndexWithinColumnThrowsException() {
+        val exception = assertThrowsExactly(IllegalArgumentException.class, () ->
+                new SparsityPattern(2, 1, new long[]{0, 2}, new long[]{1, 0})
+        );
+
+        assertEquals("entries of the row index within each column must be strictly ordered", exception.getMessage());
+    }
+
+    @Test
+    void modifyingInputArraysDoesNotModifyPattern() {
+        val colPtr = new long[]{0, 1, 2};
+        val rowVal = new long[]{0, 1};
+        val pattern = new SparsityPattern(2, 2, colPtr, rowVal);
+
+        rowVal[1] = 0;
+
+        assertArrayEquals(new long[]{0, 1}, pattern.withValues(new double[]{6., 4.}).rowVal());
+    }
+
+    @Test
+    void modifyingSharedRowIndexDoesNotModifyNativeRowIndex() {
+        val pattern = new SparsityPattern(2, 2, new long[]{0, 1, 2}, new long[]{0, 1});
+
+        pattern.withValues(new double[]{6., 4.}).rowVal()[1] = 2;
+
+        assertArrayEquals(new long[]{0, 1, 2}, pattern.colPtrSegment().toArray(JAVA_LONG));
+        assertArrayEquals(new long[]{0, 1}, pattern.rowValSegment().toArray(JAVA_LONG));
+    }
+
+}
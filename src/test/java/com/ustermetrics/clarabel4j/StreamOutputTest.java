@@ -0,0 +1,21 @@
+package com.ustermetrics.clarabel4j;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StreamOutputTest {
+
+    @Test
+    void getConsumerReturnsConsumer() {
+        final Consumer<String> consumer = _ -> {
+        };
+        val output = new StreamOutput(consumer);
+
+        assertSame(consumer, output.getConsumer());
+    }
+
+}
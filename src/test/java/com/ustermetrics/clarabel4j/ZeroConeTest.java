@@ -37,4 +37,22 @@ class ZeroConeTest {
         assertEquals("n must be positive", exception.getMessage());
     }
 
+    @Test
+    void violationReturnsMaximumAbsoluteEntry() {
+        assertEquals(1., cone.violation(new double[]{7., 0.5, -1.}, 1), 1e-8);
+    }
+
+    @Test
+    void dualViolationReturnsZero() {
+        assertEquals(0., cone.dualViolation(new double[]{0.5, -1.}, 0), 1e-8);
+    }
+
+    @Test
+    void projectReturnsZero() {
+        val v = new double[]{1., -2., 3.};
+
+        cone.project(v, 1);
+
+        assertArrayEquals(new double[]{1., 0., 0.}, v, 1e-8);
+    }
 }